@@ -0,0 +1,345 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * BooleanGlueList is an append-only list of flags, every node keeps its flags in a long[] bitset.
+ * <br>
+ * Node capacities are multiples of 64 and only the last node can be partially filled, so every node starts at a
+ * word boundary and the words of two lists line up. Bulk operations like cardinality, and, or, xor and nextSetBit
+ * work a word at a time across nodes.
+ * <br>
+ * A flag takes one bit instead of a Boolean reference, a million flags fit in about 125 KB of words.
+ * <p/>
+ * "m" number of created nodes.<br>
+ * Add O(1)<br>
+ * Access O(log m)<br>
+ * Cardinality, and, or, xor O(size / 64)
+ *
+ * @see GlueList
+ */
+public class BooleanGlueList {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    Node[] nodes;
+    int[] startingIndexes;
+    int nodeCount;
+
+    int size;
+
+    final int maxNodeCapacity;
+
+    public BooleanGlueList() {
+        this(DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    /**
+     * @param maxNodeCapacity max number of flags in a node, rounded down to a multiple of 64
+     */
+    public BooleanGlueList(int maxNodeCapacity) {
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.maxNodeCapacity = maxNodeCapacity & ~63;
+
+        init();
+    }
+
+    public BooleanGlueList(boolean[] elements) {
+
+        this();
+
+        for (boolean element : elements) {
+            add(element);
+        }
+    }
+
+    private void init() {
+
+        nodes = new Node[10];
+        startingIndexes = new int[10];
+
+        nodes[0] = new Node(DEFAULT_CAPACITY);
+
+        nodeCount = 1;
+    }
+
+    public boolean add(boolean element) {
+
+        Node l = nodes[nodeCount - 1];
+
+        if (l.size == l.capacity) {
+            l = linkNewLast();
+        }
+
+        if (element) {
+            l.words[l.size >>> 6] |= 1L << l.size;
+        }
+
+        l.size++;
+        size++;
+
+        return true;
+    }
+
+    private Node linkNewLast() {
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            startingIndexes = Arrays.copyOf(startingIndexes, newLen);
+        }
+
+        int capacity = GlueNodes.newNodeCapacity(size, DEFAULT_CAPACITY, maxNodeCapacity) & ~63;
+
+        Node newNode = new Node(capacity);
+
+        nodes[nodeCount] = newNode;
+        startingIndexes[nodeCount++] = size;
+
+        return newNode;
+    }
+
+    public boolean get(int index) {
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        Node node = nodes[slot];
+
+        int i = index - startingIndexes[slot];
+
+        return (node.words[i >>> 6] & (1L << i)) != 0;
+    }
+
+    public boolean set(int index, boolean element) {
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        Node node = nodes[slot];
+
+        int i = index - startingIndexes[slot];
+
+        long mask = 1L << i;
+
+        boolean oldValue = (node.words[i >>> 6] & mask) != 0;
+
+        if (element) {
+            node.words[i >>> 6] |= mask;
+        } else {
+            node.words[i >>> 6] &= ~mask;
+        }
+
+        return oldValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+
+        init();
+
+        size = 0;
+    }
+
+    /**
+     * Number of true flags.
+     */
+    public int cardinality() {
+
+        int count = 0;
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+            for (long word : nodes[slot].words) {
+                count += Long.bitCount(word);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Index of the first true flag at or after fromIndex, -1 if there is none.
+     */
+    public int nextSetBit(int fromIndex) {
+
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+
+        if (fromIndex >= size) {
+            return -1;
+        }
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, fromIndex);
+
+        Node node = nodes[slot];
+
+        int w = (fromIndex - startingIndexes[slot]) >>> 6;
+
+        long word = node.words[w] & (-1L << fromIndex);
+
+        while (true) {
+
+            if (word != 0) {
+                return startingIndexes[slot] + (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+
+            if (++w == node.words.length) {
+
+                if (++slot == nodeCount) {
+                    return -1;
+                }
+
+                node = nodes[slot];
+                w = 0;
+            }
+
+            word = node.words[w];
+        }
+    }
+
+    /**
+     * Flags of this list become (this AND other), flags beyond the size of other count as false.
+     */
+    public void and(BooleanGlueList other) {
+        bitwise(other, (a, b) -> a & b);
+    }
+
+    /**
+     * Flags of this list become (this OR other), the size of this list does not change.
+     */
+    public void or(BooleanGlueList other) {
+        bitwise(other, (a, b) -> a | b);
+    }
+
+    /**
+     * Flags of this list become (this XOR other), the size of this list does not change.
+     */
+    public void xor(BooleanGlueList other) {
+        bitwise(other, (a, b) -> a ^ b);
+    }
+
+    /**
+     * Walks the words of both lists side by side, they line up since every node starts at a word boundary.
+     * Words beyond the size of a list are always zero.
+     */
+    private void bitwise(BooleanGlueList other, LongBinaryOperator operator) {
+
+        int otherSlot = 0;
+        int otherWord = 0;
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            Node node = nodes[slot];
+
+            int wordCount = (node.size + 63) >>> 6;
+
+            for (int w = 0; w < wordCount; w++) {
+
+                long o = 0;
+
+                if (otherSlot < other.nodeCount) {
+
+                    Node otherNode = other.nodes[otherSlot];
+
+                    o = otherNode.words[otherWord];
+
+                    if (++otherWord == otherNode.words.length) {
+                        otherSlot++;
+                        otherWord = 0;
+                    }
+                }
+
+                node.words[w] = operator.applyAsLong(node.words[w], o);
+            }
+
+            if ((node.size & 63) != 0) {
+                node.words[wordCount - 1] &= (1L << node.size) - 1;
+            }
+        }
+    }
+
+    public boolean[] toArray() {
+
+        boolean[] array = new boolean[size];
+
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            array[i] = true;
+        }
+
+        return array;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            Node node = nodes[slot];
+
+            for (int i = 0; i < node.size; i++) {
+
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+
+                sb.append((node.words[i >>> 6] & (1L << i)) != 0);
+            }
+        }
+
+        return sb.append(']').toString();
+    }
+
+    private void rangeCheck(int index) {
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    static final class Node {
+
+        final long[] words;
+
+        final int capacity;
+
+        int size;
+
+        Node(int capacity) {
+            this.words = new long[capacity >>> 6];
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,425 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * CompressedLongGlueList is an append-only long list for sorted or nearly sorted values such as ids.
+ * <br>
+ * Only the last node is a plain long[] array, when it is full it is frozen into a block which keeps the deltas
+ * between neighbouring values bit-packed with the smallest width that holds all of them. Every 128th value is kept
+ * as it is, so get decodes at most 127 deltas of one block while iteration decodes whole blocks in one pass.
+ * <br>
+ * Blocks are never edited, a value can only be appended. The plain last node grows with the list up to max node
+ * capacity, which is small by default so that most values live in compressed blocks.
+ * <p/>
+ * "m" number of frozen blocks.<br>
+ * Add O(1), freezing a node is linear in its size<br>
+ * Access O(log m)
+ *
+ * @see GlueList
+ * @see LongGlueList
+ */
+public class CompressedLongGlueList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Smaller than in GlueList, the plain last node should not outweigh the compressed blocks.
+     */
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 12;
+
+    static final int SAMPLE_SHIFT = 7;
+    static final int SAMPLE_MASK = (1 << SAMPLE_SHIFT) - 1;
+
+    Block[] blocks;
+    int[] blockStartingIndexes;
+    int blockCount;
+
+    long[] tail;
+    int tailSize;
+    int tailStartingIndex;
+
+    int size;
+
+    final int maxNodeCapacity;
+
+    int modCount = 0;
+
+    public CompressedLongGlueList() {
+        this(DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    public CompressedLongGlueList(int maxNodeCapacity) {
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.maxNodeCapacity = maxNodeCapacity;
+
+        init();
+    }
+
+    public CompressedLongGlueList(long[] elements) {
+
+        this();
+
+        addAll(elements);
+    }
+
+    private void init() {
+
+        blocks = new Block[DEFAULT_CAPACITY];
+        blockStartingIndexes = new int[DEFAULT_CAPACITY];
+        blockCount = 0;
+
+        tail = new long[DEFAULT_CAPACITY];
+        tailSize = 0;
+        tailStartingIndex = 0;
+    }
+
+    public boolean add(long element) {
+
+        if (tailSize == tail.length) {
+            freezeTail();
+        }
+
+        tail[tailSize++] = element;
+
+        modCount++;
+        size++;
+
+        return true;
+    }
+
+    public boolean addAll(long[] elements) {
+
+        for (long element : elements) {
+            add(element);
+        }
+
+        return elements.length != 0;
+    }
+
+    private void freezeTail() {
+
+        if (blockCount == blocks.length) {
+
+            int newLen = blockCount + (blockCount >>> 1);
+
+            blocks = Arrays.copyOf(blocks, newLen);
+            blockStartingIndexes = Arrays.copyOf(blockStartingIndexes, newLen);
+        }
+
+        blocks[blockCount] = new Block(tail, tailSize);
+        blockStartingIndexes[blockCount++] = tailStartingIndex;
+
+        tail = new long[GlueNodes.newNodeCapacity(size, DEFAULT_CAPACITY, maxNodeCapacity)];
+        tailStartingIndex = size;
+        tailSize = 0;
+    }
+
+    public long get(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        if (index >= tailStartingIndex) {
+            return tail[index - tailStartingIndex];
+        }
+
+        int slot = GlueNodes.searchNode(blockStartingIndexes, blockCount, index);
+
+        return blocks[slot].get(index - blockStartingIndexes[slot]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+
+        init();
+
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Approximate number of bytes held by the arrays of blocks and the last node.
+     */
+    public long sizeInBytes() {
+
+        long bytes = 8L * tail.length;
+
+        for (int i = 0; i < blockCount; i++) {
+            bytes += 8L * (blocks[i].words.length + blocks[i].samples.length);
+        }
+
+        return bytes;
+    }
+
+    public long[] toArray() {
+
+        long[] array = new long[size];
+
+        for (int i = 0; i < blockCount; i++) {
+            blocks[i].decode(array, blockStartingIndexes[i]);
+        }
+
+        System.arraycopy(tail, 0, array, tailStartingIndex, tailSize);
+
+        return array;
+    }
+
+    public void forEach(LongConsumer action) {
+
+        int expectedModCount = modCount;
+
+        long[] buffer = new long[0];
+
+        for (int i = 0; i < blockCount; i++) {
+
+            Block block = blocks[i];
+
+            if (buffer.length < block.count) {
+                buffer = new long[block.count];
+            }
+
+            block.decode(buffer, 0);
+
+            for (int j = 0; j < block.count; j++) {
+                action.accept(buffer[j]);
+            }
+        }
+
+        for (int j = 0; j < tailSize; j++) {
+            action.accept(tail[j]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.SIZED);
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Decodes one block at a time into a buffer, the last node is read directly.
+     */
+    private class Itr implements PrimitiveIterator.OfLong {
+
+        int cursor = 0;
+
+        int nextBlock = 0;
+
+        long[] buffer = new long[0];
+        int bufferStart = 0;
+        int bufferEnd = 0;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public long nextLong() {
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            if (cursor >= tailStartingIndex) {
+                return tail[cursor++ - tailStartingIndex];
+            }
+
+            if (cursor >= bufferEnd) {
+
+                Block block = blocks[nextBlock];
+
+                if (buffer.length < block.count) {
+                    buffer = new long[block.count];
+                }
+
+                block.decode(buffer, 0);
+
+                bufferStart = blockStartingIndexes[nextBlock++];
+                bufferEnd = bufferStart + block.count;
+            }
+
+            return buffer[cursor++ - bufferStart];
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder("[");
+
+        PrimitiveIterator.OfLong it = iterator();
+
+        while (it.hasNext()) {
+
+            sb.append(it.nextLong());
+
+            if (it.hasNext()) {
+                sb.append(", ");
+            }
+        }
+
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Frozen node, header is the minimum delta, bit width and count. Deltas are stored as (delta - minDelta) in
+     * bitWidth bits, the value at every 128th position is kept in samples instead.
+     */
+    static final class Block {
+
+        final long[] samples;
+        final long minDelta;
+        final int bitWidth;
+        final int count;
+        final long[] words;
+
+        Block(long[] values, int count) {
+
+            this.count = count;
+
+            samples = new long[((count - 1) >>> SAMPLE_SHIFT) + 1];
+
+            long minDelta = Long.MAX_VALUE;
+
+            for (int i = 0; i < count; i++) {
+                if ((i & SAMPLE_MASK) == 0) {
+                    samples[i >>> SAMPLE_SHIFT] = values[i];
+                } else {
+                    minDelta = Math.min(minDelta, values[i] - values[i - 1]);
+                }
+            }
+
+            if (minDelta == Long.MAX_VALUE) {
+                minDelta = 0;
+            }
+
+            long maxOffset = 0;
+
+            for (int i = 0; i < count; i++) {
+                if ((i & SAMPLE_MASK) != 0) {
+                    maxOffset |= values[i] - values[i - 1] - minDelta;
+                }
+            }
+
+            this.minDelta = minDelta;
+            this.bitWidth = 64 - Long.numberOfLeadingZeros(maxOffset);
+            this.words = new long[(int) (((long) count * bitWidth + 63) >>> 6)];
+
+            if (bitWidth != 0) {
+                for (int i = 0; i < count; i++) {
+                    if ((i & SAMPLE_MASK) != 0) {
+                        write((long) i * bitWidth, values[i] - values[i - 1] - minDelta);
+                    }
+                }
+            }
+        }
+
+        long get(int i) {
+
+            long value = samples[i >>> SAMPLE_SHIFT];
+
+            for (int j = (i & ~SAMPLE_MASK) + 1; j <= i; j++) {
+                value += read((long) j * bitWidth) + minDelta;
+            }
+
+            return value;
+        }
+
+        void decode(long[] dst, int off) {
+
+            long value = 0;
+
+            for (int i = 0; i < count; i++) {
+
+                if ((i & SAMPLE_MASK) == 0) {
+                    value = samples[i >>> SAMPLE_SHIFT];
+                } else {
+                    value += read((long) i * bitWidth) + minDelta;
+                }
+
+                dst[off + i] = value;
+            }
+        }
+
+        private void write(long bitIndex, long offset) {
+
+            int word = (int) (bitIndex >>> 6);
+            int shift = (int) (bitIndex & 63);
+
+            words[word] |= offset << shift;
+
+            if (shift + bitWidth > 64) {
+                words[word + 1] |= offset >>> (64 - shift);
+            }
+        }
+
+        private long read(long bitIndex) {
+
+            if (bitWidth == 0) {
+                return 0;
+            }
+
+            int word = (int) (bitIndex >>> 6);
+            int shift = (int) (bitIndex & 63);
+
+            long offset = words[word] >>> shift;
+
+            if (shift + bitWidth > 64) {
+                offset |= words[word + 1] << (64 - shift);
+            }
+
+            return bitWidth == 64 ? offset : offset & ((1L << bitWidth) - 1);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * EnumGlueList is an append-only list of enum constants packed by their ordinals, every node keeps them in a long[]
+ * array with as many bits per element as the enum needs, 1 to 8.
+ * <br>
+ * An element never spans two words, so get and set read a single word. An enum of 5 constants takes 3 bits and 21
+ * elements share a word.
+ * <br>
+ * A new node gets enough words for the requested capacity, its real capacity is rounded up to fill the last word.
+ * <p/>
+ * "m" number of created nodes.<br>
+ * Add O(1)<br>
+ * Access O(log m)
+ *
+ * @param <E> the enum type of elements held in this collection
+ * @see GlueList
+ * @see BooleanGlueList
+ */
+public class EnumGlueList<E extends Enum<E>> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    private static final int MAX_BITS = 8;
+
+    final E[] constants;
+
+    final int bits;
+    final int perWord;
+    final long mask;
+
+    final int maxNodeCapacity;
+
+    Node[] nodes;
+    int[] startingIndexes;
+    int nodeCount;
+
+    int size;
+
+    public EnumGlueList(Class<E> elementType) {
+        this(elementType, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    public EnumGlueList(Class<E> elementType, int maxNodeCapacity) {
+
+        constants = elementType.getEnumConstants();
+
+        if (constants.length > 1 << MAX_BITS) {
+            throw new IllegalArgumentException("Illegal Enum Type: " + elementType.getName() + " has more than "
+                    + (1 << MAX_BITS) + " constants");
+        }
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.bits = max(32 - Integer.numberOfLeadingZeros(constants.length - 1), 1);
+        this.perWord = 64 / bits;
+        this.mask = (1L << bits) - 1;
+
+        this.maxNodeCapacity = maxNodeCapacity;
+
+        init();
+    }
+
+    private void init() {
+
+        nodes = new Node[10];
+        startingIndexes = new int[10];
+
+        nodes[0] = new Node(wordsFor(DEFAULT_CAPACITY), perWord);
+
+        nodeCount = 1;
+    }
+
+    private int wordsFor(int capacity) {
+        return (capacity + perWord - 1) / perWord;
+    }
+
+    @Override
+    public boolean add(E element) {
+
+        Objects.requireNonNull(element);
+
+        Node l = nodes[nodeCount - 1];
+
+        if (l.size == l.capacity) {
+            l = linkNewLast();
+        }
+
+        write(l, l.size, element.ordinal());
+
+        l.size++;
+
+        modCount++;
+        size++;
+
+        return true;
+    }
+
+    private Node linkNewLast() {
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            startingIndexes = Arrays.copyOf(startingIndexes, newLen);
+        }
+
+        int capacity = GlueNodes.newNodeCapacity(size, DEFAULT_CAPACITY, maxNodeCapacity);
+
+        Node newNode = new Node(wordsFor(capacity), perWord);
+
+        nodes[nodeCount] = newNode;
+        startingIndexes[nodeCount++] = size;
+
+        return newNode;
+    }
+
+    @Override
+    public E get(int index) {
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        return constants[read(nodes[slot], index - startingIndexes[slot])];
+    }
+
+    @Override
+    public E set(int index, E element) {
+
+        Objects.requireNonNull(element);
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        Node node = nodes[slot];
+
+        int i = index - startingIndexes[slot];
+
+        E oldValue = constants[read(node, i)];
+
+        write(node, i, element.ordinal());
+
+        return oldValue;
+    }
+
+    /**
+     * Number of elements equal to value, decoded a word at a time.
+     */
+    public int count(E value) {
+
+        int ordinal = value.ordinal();
+
+        int count = 0;
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            Node node = nodes[slot];
+
+            for (int w = 0; w * perWord < node.size; w++) {
+
+                long word = node.words[w];
+
+                int end = min(perWord, node.size - w * perWord);
+
+                for (int k = 0; k < end; k++, word >>>= bits) {
+                    if ((word & mask) == ordinal) {
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+
+        init();
+
+        modCount++;
+        size = 0;
+    }
+
+    private int read(Node node, int i) {
+        return (int) ((node.words[i / perWord] >>> (i % perWord * bits)) & mask);
+    }
+
+    private void write(Node node, int i, int ordinal) {
+
+        int shift = i % perWord * bits;
+
+        node.words[i / perWord] = (node.words[i / perWord] & ~(mask << shift)) | ((long) ordinal << shift);
+    }
+
+    private void rangeCheck(int index) {
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    static final class Node {
+
+        final long[] words;
+
+        final int capacity;
+
+        int size;
+
+        Node(int wordCount, int perWord) {
+            this.words = new long[wordCount];
+            this.capacity = wordCount * perWord;
+        }
+    }
+}
@@ -0,0 +1,703 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * GlueDeque is the sibling of GlueList for queues and stacks, built on the same GlueList.Node chain.
+ * <br>
+ * Elements of the first node live in [head, elementDataPointer) of its array, every other node starts at 0.
+ * Adding to the head writes in front of head, when the first node has no room in front a new node is linked
+ * before it and filled from its end. A drained first or last node is simply unlinked, so nothing is ever shifted
+ * by head or tail operations.
+ * <br>
+ * New nodes have half of the size of deque like GlueList, bounded by max node capacity.
+ * <p/>
+ * addFirst, addLast, pollFirst, pollLast, peekFirst, peekLast O(1)<br>
+ * Remove occurrence O(n)<br>
+ * Search O(n)
+ *
+ * @param <T> the type of elements held in this collection
+ * @see GlueList
+ * @see Deque
+ */
+public class GlueDeque<T> extends AbstractCollection<T> implements Deque<T>, Cloneable, Serializable {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    transient GlueList.Node<T> first;
+    transient GlueList.Node<T> last;
+
+    transient int head;
+
+    int size;
+
+    int initialCapacity;
+
+    int maxNodeCapacity;
+
+    transient int modCount = 0;
+
+    public GlueDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GlueDeque(int initialCapacity) {
+        this(initialCapacity, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    public GlueDeque(int initialCapacity, int maxNodeCapacity) {
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.initialCapacity = initialCapacity;
+        this.maxNodeCapacity = maxNodeCapacity;
+
+        init(Math.min(initialCapacity, maxNodeCapacity));
+    }
+
+    public GlueDeque(Collection<? extends T> c) {
+
+        this(Math.max(c.size(), DEFAULT_CAPACITY));
+
+        addAll(c);
+    }
+
+    private void init(int capacity) {
+
+        GlueList.Node<T> node = new GlueList.Node<>(null, null, 0, capacity);
+
+        first = node;
+        last = node;
+        head = 0;
+    }
+
+    private int newNodeCapacity() {
+        return Math.min(Math.max(size >>> 1, DEFAULT_CAPACITY), maxNodeCapacity);
+    }
+
+    @Override
+    public void addFirst(T element) {
+
+        GlueList.Node<T> f = first;
+
+        if (size == 0) {
+            head = f.elementData.length;
+            f.elementDataPointer = head;
+        }
+
+        if (head == 0) {
+
+            f = new GlueList.Node<>(null, first, 0, newNodeCapacity());
+
+            first.pre = f;
+            first = f;
+
+            head = f.elementData.length;
+            f.elementDataPointer = head;
+        }
+
+        f.elementData[--head] = element;
+
+        modCount++;
+        size++;
+    }
+
+    @Override
+    public void addLast(T element) {
+
+        GlueList.Node<T> l = last;
+
+        if (size == 0) {
+            head = 0;
+            l.elementDataPointer = 0;
+        }
+
+        if (!l.isAddable()) {
+
+            l = new GlueList.Node<>(last, null, size, newNodeCapacity());
+
+            last.next = l;
+            last = l;
+        }
+
+        l.add(element);
+
+        modCount++;
+        size++;
+    }
+
+    @Override
+    public boolean offerFirst(T element) {
+
+        addFirst(element);
+
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T element) {
+
+        addLast(element);
+
+        return true;
+    }
+
+    @Override
+    public T removeFirst() {
+
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return pollFirst();
+    }
+
+    @Override
+    public T removeLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return pollLast();
+    }
+
+    @Override
+    public T pollFirst() {
+
+        if (size == 0) {
+            return null;
+        }
+
+        GlueList.Node<T> f = first;
+
+        T element = f.elementData[head];
+
+        f.elementData[head++] = null;
+
+        modCount++;
+        size--;
+
+        if (head == f.elementDataPointer) {
+            unlinkEmpty(f);
+        }
+
+        return element;
+    }
+
+    @Override
+    public T pollLast() {
+
+        if (size == 0) {
+            return null;
+        }
+
+        GlueList.Node<T> l = last;
+
+        T element = l.elementData[--l.elementDataPointer];
+
+        l.elementData[l.elementDataPointer] = null;
+
+        modCount++;
+        size--;
+
+        if (l.elementDataPointer == start(l)) {
+            unlinkEmpty(l);
+        }
+
+        return element;
+    }
+
+    @Override
+    public T getFirst() {
+
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return first.elementData[head];
+    }
+
+    @Override
+    public T getLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return last.elementData[last.elementDataPointer - 1];
+    }
+
+    @Override
+    public T peekFirst() {
+        return (size == 0) ? null : first.elementData[head];
+    }
+
+    @Override
+    public T peekLast() {
+        return (size == 0) ? null : last.elementData[last.elementDataPointer - 1];
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+
+        for (Iterator<T> it = iterator(); it.hasNext(); ) {
+            if (Objects.equals(o, it.next())) {
+
+                it.remove();
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+
+        for (Iterator<T> it = descendingIterator(); it.hasNext(); ) {
+            if (Objects.equals(o, it.next())) {
+
+                it.remove();
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean add(T element) {
+
+        addLast(element);
+
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T element) {
+        addFirst(element);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+            for (int i = start(node); i < node.elementDataPointer; i++) {
+                if (Objects.equals(o, node.elementData[i])) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+
+        for (GlueList.Node<T> node = first; node != null; ) {
+
+            GlueList.Node<T> next = node.next;
+
+            node.next = null;
+            node.pre = null;
+            node.elementData = null;
+
+            node = next;
+        }
+
+        init(Math.min(Math.max(initialCapacity, DEFAULT_CAPACITY), maxNodeCapacity));
+
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+
+        Object[] objects = new Object[size];
+
+        int i = 0;
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+
+            int start = start(node);
+
+            System.arraycopy(node.elementData, start, objects, i, node.elementDataPointer - start);
+
+            i += node.elementDataPointer - start;
+        }
+
+        return objects;
+    }
+
+    private int start(GlueList.Node<T> node) {
+        return (node == first) ? head : 0;
+    }
+
+    /**
+     * Removes the element at array index p of the node, returns the array index of the element which follows it
+     * or -1 when the node became empty and it is unlinked.
+     */
+    private int removeAt(GlueList.Node<T> node, int p) {
+
+        int next;
+
+        if (node == first && p == head) {
+
+            node.elementData[head++] = null;
+
+            next = head;
+        } else {
+
+            int numMoved = node.elementDataPointer - p - 1;
+
+            if (numMoved > 0) {
+                System.arraycopy(node.elementData, p + 1, node.elementData, p, numMoved);
+            }
+
+            node.elementData[--node.elementDataPointer] = null;
+
+            next = p;
+        }
+
+        modCount++;
+        size--;
+
+        if (node.elementDataPointer == start(node) && first != last) {
+
+            unlinkEmpty(node);
+
+            return -1;
+        }
+
+        return next;
+    }
+
+    /**
+     * Unlinks a node which has no elements, the only node is kept and reset instead.
+     */
+    private void unlinkEmpty(GlueList.Node<T> node) {
+
+        if (first == last) {
+
+            head = 0;
+            node.elementDataPointer = 0;
+
+            return;
+        }
+
+        GlueList.Node<T> next = node.next;
+        GlueList.Node<T> prev = node.pre;
+
+        if (prev == null) {
+            first = next;
+            head = 0;
+        } else {
+            prev.next = next;
+            node.pre = null;
+        }
+
+        if (next == null) {
+            last = prev;
+        } else {
+            next.pre = prev;
+            node.next = null;
+        }
+
+        node.elementData = null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        return new DescendingItr();
+    }
+
+    private class Itr implements Iterator<T> {
+
+        GlueList.Node<T> node = first;
+
+        int i = head;//inner-array index
+        int j = 0;//returned element count
+
+        GlueList.Node<T> lastNode;
+        int lastIndex = -1;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j != size;
+        }
+
+        @Override
+        public T next() {
+
+            checkForComodification();
+
+            if (j >= size) {
+                throw new NoSuchElementException();
+            }
+
+            while (i >= node.elementDataPointer) {
+                node = node.next;
+                i = 0;
+            }
+
+            lastNode = node;
+            lastIndex = i;
+
+            j++;
+
+            return node.elementData[i++];
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            GlueList.Node<T> next = lastNode.next;
+
+            int p = removeAt(lastNode, lastIndex);
+
+            if (p < 0) {
+                node = next;
+                i = 0;
+            } else {
+                node = lastNode;
+                i = p;
+            }
+
+            j--;
+
+            lastNode = null;
+            lastIndex = -1;
+
+            expectedModCount = modCount;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class DescendingItr implements Iterator<T> {
+
+        GlueList.Node<T> node = last;
+
+        int i = last.elementDataPointer - 1;//inner-array index
+        int j = 0;//returned element count
+
+        GlueList.Node<T> lastNode;
+        int lastIndex = -1;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j != size;
+        }
+
+        @Override
+        public T next() {
+
+            checkForComodification();
+
+            if (j >= size) {
+                throw new NoSuchElementException();
+            }
+
+            while (i < start(node)) {
+                node = node.pre;
+                i = node.elementDataPointer - 1;
+            }
+
+            lastNode = node;
+            lastIndex = i;
+
+            j++;
+
+            return node.elementData[i--];
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastNode == null) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            GlueList.Node<T> prev = lastNode.pre;
+
+            int p = removeAt(lastNode, lastIndex);
+
+            if (p < 0) {
+                node = prev;
+                i = (prev != null) ? prev.elementDataPointer - 1 : -1;
+            } else {
+                node = lastNode;
+                i = p - 1;
+            }
+
+            j--;
+
+            lastNode = null;
+            lastIndex = -1;
+
+            expectedModCount = modCount;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object clone() {
+
+        try {
+            GlueDeque<T> clone = (GlueDeque<T>) super.clone();
+
+            clone.init(Math.min(Math.max(size, DEFAULT_CAPACITY), maxNodeCapacity));
+
+            clone.modCount = 0;
+            clone.size = 0;
+
+            for (GlueList.Node<T> node = first; node != null; node = node.next) {
+                for (int i = start(node); i < node.elementDataPointer; i++) {
+                    clone.addLast(node.elementData[i]);
+                }
+            }
+
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+
+        int expectedModCount = modCount;
+
+        s.defaultWriteObject();
+
+        s.writeInt(size);
+
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+            for (int i = start(node); i < node.elementDataPointer; i++) {
+                s.writeObject(node.elementData[i]);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+
+        s.defaultReadObject();
+
+        int size = s.readInt();
+
+        this.size = 0;
+
+        init(Math.min(Math.max(size, DEFAULT_CAPACITY), maxNodeCapacity));
+
+        for (int i = 0; i < size; i++) {
+            addLast((T) s.readObject());
+        }
+    }
+}
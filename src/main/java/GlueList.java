@@ -21,16 +21,25 @@ import java.io.Serializable;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
 
-import static java.lang.Math.abs;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
@@ -43,6 +52,8 @@ import static java.lang.Math.min;
  * new Node will be created and linked with the last Node.
  * <br>
  * The array which belongs to newly created node has half of the size of list , just like ArrayList.
+ * Node arrays never grow beyond max node capacity (65536 by default), a full node is split into two nodes instead.
+ * A node which falls under a quarter full after a removal is merged into a neighbour, compact() packs all nodes.
  * In ArrayList when there is no space for it it creates new array with double of old size and inserts old data into new one.
  * Unlike ArrayList GlueList does it dynamically way with creating new node so old data does NOT have to be moved to another array.
  * You can think that GlueList is dynamic version of ArrayList.
@@ -57,13 +68,13 @@ import static java.lang.Math.min;
  * Access O(1)
  * <br><br>
  * "m" number of created nodes.<br>
- * "n" size of node array.<br>
- * If you insert 10_000_000 record into List there will be just 36 nodes.<br><br>
+ * "n" size of node array, bounded by max node capacity.<br>
+ * If you insert 10_000_000 record into List there will be just 176 nodes.<br><br>
  * Worst Case<br>
  * Add O(n*m)<br>
  * Remove O(n*m)<br>
  * Search O(m)<br>
- * Access O(m)
+ * Access O(log m)
  * <p/>
  * version v1.0
  * <p/>
@@ -82,30 +93,65 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
     transient Node<T> first;
     transient Node<T> last;
 
+    transient Node<T>[] nodes;
+    transient int[] nodeSizeTree;
+    transient int nodeCount;
+
+    transient Finger finger;
+
     int size;
 
     int initialCapacity;
 
+    int maxNodeCapacity = DEFAULT_MAX_NODE_CAPACITY;
+
     private static final int DEFAULT_CAPACITY = 10;
 
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    private static final int HASHING_THRESHOLD = 16;
+
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
+    private static final ToIntFunction<Node<?>> NODE_SIZE = node -> node.elementDataPointer;
+
     public GlueList() {
 
         Node<T> initNode = new Node<>(null, null, 0, DEFAULT_CAPACITY);
 
         first = initNode;
         last = initNode;
+
+        initDirectory(initNode);
     }
 
     public GlueList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity capacity of the first node
+     * @param maxNodeCapacity no node array grows beyond it, a full node is split instead.
+     *                        So any single positional edit copies at most that many elements.
+     *                        It can not be less than the default capacity (10).
+     */
+    public GlueList(int initialCapacity, int maxNodeCapacity) {
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
 
-        this.initialCapacity = (initialCapacity > MAX_ARRAY_SIZE) ? MAX_ARRAY_SIZE : initialCapacity;
+        this.maxNodeCapacity = min(maxNodeCapacity, MAX_ARRAY_SIZE);
+        this.initialCapacity = min(initialCapacity, this.maxNodeCapacity);
 
-        Node<T> initNode = new Node<>(null, null, 0, initialCapacity);
+        Node<T> initNode = new Node<>(null, null, 0, this.initialCapacity);
 
         first = initNode;
         last = initNode;
+
+        initDirectory(initNode);
     }
 
     public GlueList(Collection<? extends T> c) {
@@ -116,26 +162,16 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         int len = arr.length;
 
-        if (len != 0) {
-
-            Node<T> initNode = new Node<>(null, null, 0, len);
-
-            first = initNode;
-            last = initNode;
-
-            System.arraycopy(arr, 0, last.elementData, 0, len);
+        Node<T> initNode = new Node<>(null, null, 0, (len != 0) ? min(len, maxNodeCapacity) : DEFAULT_CAPACITY);
 
-            last.elementDataPointer += len;
-        } else {
+        first = initNode;
+        last = initNode;
 
-            Node<T> initNode = new Node<>(null, null, 0, DEFAULT_CAPACITY);
+        initDirectory(initNode);
 
-            first = initNode;
-            last = initNode;
-        }
+        linkLastAll(arr);
 
         modCount++;
-        size += len;
     }
 
     @Override
@@ -146,10 +182,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         if (l.isAddable()) {
             l.add(element);
         } else {
-            Node<T> newNode = new Node<>(l, null, size);
-            newNode.add(element);
-            last = newNode;
-            l.next = last;
+            linkNewLast().add(element);
         }
 
         modCount++;
@@ -164,42 +197,44 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         rangeCheckForAdd(index);
 
-        Node<T> node = getNodeForAdd(index);
+        if (index == size && !last.isAddable()) {
+            linkNewLast();
+        }
+
+        long position = getNode(index);
 
-        if (node == null) {
+        int slot = GlueNodes.slot(position);
+        Node<T> node = nodes[slot];
 
-            Node<T> l = last;
+        int nodeArrIndex = index - GlueNodes.startingIndex(position);
 
-            Node<T> newNode = new Node<>(l, null, size);
+        //a full node at max capacity is split in halves, the element goes into the half which holds the index.
+        if (!node.isAddable() && node.elementData.length >= maxNodeCapacity) {
 
-            last = newNode;
+            splitNode(slot);
 
-            l.next = last;
+            int leftSize = node.elementDataPointer;
 
-            node = newNode;
+            if (nodeArrIndex > leftSize) {
+                node = nodes[++slot];
+                nodeArrIndex -= leftSize;
+            }
         }
 
-        //if it is last and has extra space for element...
-        if (node == last && node.elementData.length - node.elementDataPointer > 0) {
-
-            int nodeArrIndex = index - node.startingIndex;
+        //if it has extra space for element, shifts in place...
+        if (node.isAddable()) {
 
             System.arraycopy(node.elementData, nodeArrIndex, node.elementData, nodeArrIndex + 1, node.elementDataPointer - nodeArrIndex);
 
             node.elementData[nodeArrIndex] = element;
 
-            if (nodeArrIndex > 0) {
-                System.arraycopy(node.elementData, 0, node.elementData, 0, nodeArrIndex);
-            }
-
             node.elementDataPointer++;
         } else {
 
-            int newLen = node.elementData.length + 1;
+            //...otherwise grows the node with slack, so next inserts into it do not reallocate.
+            int newLen = min(grow(node.elementData.length), maxNodeCapacity);
             T[] newElementData = (T[]) new Object[newLen];
 
-            int nodeArrIndex = index - node.startingIndex;
-
             System.arraycopy(node.elementData, nodeArrIndex, newElementData, nodeArrIndex + 1, node.elementDataPointer - nodeArrIndex);
 
             newElementData[nodeArrIndex] = element;
@@ -209,16 +244,178 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             }
 
             node.elementData = newElementData;
-            node.endingIndex++;
             node.elementDataPointer++;
         }
 
-        updateNodesAfterAdd(node);
+        GlueNodes.addToNodeSize(nodeSizeTree, nodeCount - 1, slot, 1);
 
         modCount++;
         size++;
     }
 
+    private Node<T> linkNewLast() {
+
+        Node<T> l = last;
+
+        Node<T> newNode = new Node<>(l, null, size, min(size >>> 1, maxNodeCapacity));
+
+        last = newNode;
+
+        l.next = last;
+
+        linkToDirectory(newNode);
+
+        return newNode;
+    }
+
+    /**
+     * Moves the upper half of a full node into a new node linked right after it.
+     */
+    private void splitNode(int slot) {
+
+        Node<T> node = nodes[slot];
+
+        int leftSize = node.elementDataPointer >>> 1;
+        int rightSize = node.elementDataPointer - leftSize;
+
+        Node<T> newNode = new Node<>(node, node.next, size, node.elementData.length);
+
+        System.arraycopy(node.elementData, leftSize, newNode.elementData, 0, rightSize);
+        Arrays.fill(node.elementData, leftSize, node.elementDataPointer, null);
+
+        node.elementDataPointer = leftSize;
+        newNode.elementDataPointer = rightSize;
+
+        if (node.next == null) {
+            last = newNode;
+        } else {
+            node.next.pre = newNode;
+        }
+
+        node.next = newNode;
+
+        insertIntoDirectory(slot + 1, newNode);
+    }
+
+    /**
+     * Like B-tree minimum fill, a node which uses less than a quarter of its array is underfilled.
+     */
+    private static boolean isUnderfilled(Node<?> node) {
+        return node.elementDataPointer < (node.elementData.length >>> 2);
+    }
+
+    /**
+     * Moves the elements of an underfilled interior node into a neighbour which has room for them
+     * and unlinks the node, so fragmentation after deletions is repaired.
+     */
+    private void mergeNode(int slot) {
+
+        Node<T> node = nodes[slot];
+        Node<T> pre = node.pre;
+        Node<T> next = node.next;
+
+        int len = node.elementDataPointer;
+
+        if (pre != null && pre.elementData.length - pre.elementDataPointer >= len) {
+
+            System.arraycopy(node.elementData, 0, pre.elementData, pre.elementDataPointer, len);
+
+            pre.elementDataPointer += len;
+        } else if (next.elementData.length - next.elementDataPointer >= len) {
+
+            System.arraycopy(next.elementData, 0, next.elementData, len, next.elementDataPointer);
+            System.arraycopy(node.elementData, 0, next.elementData, 0, len);
+
+            next.elementDataPointer += len;
+        } else {
+            return;
+        }
+
+        if (pre == null) {
+            first = next;
+        } else {
+            pre.next = next;
+        }
+
+        next.pre = pre;
+
+        node.pre = null;
+        node.next = null;
+        node.elementData = null;
+
+        unlinkFromDirectory(slot);
+    }
+
+    /**
+     * Moves all elements into as few nodes as possible, every node is filled up to max node capacity
+     * and keeps no slack. Node count becomes size / maxNodeCapacity.
+     */
+    public void compact() {
+
+        if (size == 0) {
+            return;
+        }
+
+        Node<T> node = first;
+        int i = 0;
+
+        Node<T> newFirst = null;
+        Node<T> newLast = null;
+
+        for (int remained = size; remained > 0; ) {
+
+            int capacity = min(remained, maxNodeCapacity);
+
+            Node<T> newNode = new Node<>(newLast, null, size - remained, capacity);
+
+            while (newNode.elementDataPointer < capacity) {
+
+                int len = min(node.elementDataPointer - i, capacity - newNode.elementDataPointer);
+
+                System.arraycopy(node.elementData, i, newNode.elementData, newNode.elementDataPointer, len);
+
+                newNode.elementDataPointer += len;
+                i += len;
+
+                if (i == node.elementDataPointer) {
+
+                    Node<T> next = node.next;
+
+                    node.next = null;
+                    node.pre = null;
+                    node.elementData = null;
+
+                    node = next;
+                    i = 0;
+                }
+            }
+
+            if (newLast == null) {
+                newFirst = newNode;
+            } else {
+                newLast.next = newNode;
+            }
+
+            newLast = newNode;
+
+            remained -= capacity;
+        }
+
+        first = newFirst;
+        last = newLast;
+
+        rebuildDirectory();
+
+        modCount++;
+    }
+
+    private static int grow(int oldCapacity) {
+
+        int newCapacity = oldCapacity + (oldCapacity >>> 1) + 1;
+
+        return (newCapacity - MAX_ARRAY_SIZE > 0) ? MAX_ARRAY_SIZE : newCapacity;
+    }
+
     private void rangeCheckForAdd(int index) {
 
         if (index > size || index < 0) {
@@ -226,18 +423,36 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         }
     }
 
-    private void updateNodesAfterAdd(Node<T> nodeFrom) {
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+
+        Objects.requireNonNull(c);
+
+        Object[] collection = c.toArray();
+
+        int len = collection.length;
 
-        for (Node<T> node = nodeFrom.next; node != null; node = node.next) {
+        if (len == 0) {
+            return false;
+        }
 
-            node.startingIndex++;
-            node.endingIndex++;
+        if (size == 0 && last.elementData.length < len) {
+            last.elementData = (T[]) new Object[min(len, maxNodeCapacity)];
         }
+
+        linkLastAll(collection);
+
+        modCount++;
+
+        return true;
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public boolean addAll(Collection<? extends T> c) {
+    public boolean addAll(int index, Collection<? extends T> c) {
+
+        checkPositionIndex(index);
 
         Objects.requireNonNull(c);
 
@@ -249,92 +464,174 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             return false;
         }
 
-        if (size == 0) {
+        if (index == size) {
 
-            if (initialCapacity >= len) {
-                System.arraycopy(collection, 0, last.elementData, 0, len);
-            } else {
-                last.elementData = Arrays.copyOf((T[]) collection, len);
-                last.endingIndex = len - 1;
+            if (size == 0 && last.elementData.length < len) {
+                last.elementData = (T[]) new Object[min(len, maxNodeCapacity)];
             }
 
-            last.elementDataPointer += len;
+            linkLastAll(collection);
 
             modCount++;
-            size += len;
 
             return true;
         }
 
-        int elementDataLen = last.elementData.length;
-        int elementSize = last.elementDataPointer;
+        long position = getNode(index);
 
-        int remainedStorage = elementDataLen - elementSize;
+        int slot = GlueNodes.slot(position);
+        Node<T> node = nodes[slot];
 
-        if (remainedStorage == 0) {
+        int nodeArrIndex = index - GlueNodes.startingIndex(position);
 
-            Node<T> l = last;
+        if (node.elementData.length - node.elementDataPointer >= len) {
 
-            int newLen = (size >>> 1);
-            int initialLen = (len > newLen) ? len : newLen;
+            System.arraycopy(node.elementData, nodeArrIndex, node.elementData, nodeArrIndex + len, node.elementDataPointer - nodeArrIndex);
+            System.arraycopy(collection, 0, node.elementData, nodeArrIndex, len);
 
-            Node<T> newNode = new Node<>(l, null, size, initialLen);
+            node.elementDataPointer += len;
 
-            System.arraycopy(collection, 0, newNode.elementData, 0, len);
+            GlueNodes.addToNodeSize(nodeSizeTree, nodeCount - 1, slot, len);
+        } else {
+            spliceNodes(node, nodeArrIndex, collection);
+        }
 
-            newNode.elementDataPointer += len;
+        modCount++;
+        size += len;
 
-            last = newNode;
-            l.next = last;
+        return true;
+    }
 
-            modCount++;
-            size += len;
+    /**
+     * Splits the node at nodeArrIndex and links full new nodes holding the collection followed by the
+     * split off tail of the node, the directory is rebuilt once.
+     */
+    private void spliceNodes(Node<T> node, int nodeArrIndex, Object[] collection) {
 
-            return true;
+        int len = collection.length;
+
+        Node<T> before;
+        Node<T> after;
+
+        int tailLen;
+
+        if (nodeArrIndex == 0) {
+            before = node.pre;
+            after = node;
+            tailLen = 0;
+        } else {
+            before = node;
+            after = node.next;
+            tailLen = node.elementDataPointer - nodeArrIndex;
         }
 
-        if (len <= remainedStorage) {
+        int total = len + tailLen;
 
-            System.arraycopy(collection, 0, last.elementData, elementSize, len);
+        Node<T> newFirst = null;
+        Node<T> newLast = before;
 
-            last.elementDataPointer += len;
+        for (int copied = 0; copied < total; ) {
 
-            modCount++;
-            size += len;
+            int capacity = min(total - copied, maxNodeCapacity);
 
-            return true;
+            Node<T> newNode = new Node<>(newLast, null, size + copied, capacity);
+
+            if (copied < len) {
+
+                int copyLen = min(capacity, len - copied);
+
+                System.arraycopy(collection, copied, newNode.elementData, 0, copyLen);
+
+                newNode.elementDataPointer = copyLen;
+            }
+
+            int tailCopyLen = capacity - newNode.elementDataPointer;
+
+            if (tailCopyLen > 0) {
+
+                System.arraycopy(node.elementData, nodeArrIndex + copied + newNode.elementDataPointer - len,
+                        newNode.elementData, newNode.elementDataPointer, tailCopyLen);
+
+                newNode.elementDataPointer += tailCopyLen;
+            }
+
+            if (newFirst == null) {
+                newFirst = newNode;
+            } else {
+                newLast.next = newNode;
+            }
+
+            newLast = newNode;
+
+            copied += capacity;
         }
 
-        if (len > remainedStorage) {
+        if (tailLen > 0) {
 
-            System.arraycopy(collection, 0, last.elementData, elementSize, remainedStorage);
+            Arrays.fill(node.elementData, nodeArrIndex, node.elementDataPointer, null);
 
-            last.elementDataPointer += remainedStorage;
-            size += remainedStorage;
+            node.elementDataPointer = nodeArrIndex;
+        }
 
-            int newLen = (size >>> 1);
-            int remainedDataLen = len - remainedStorage;
+        if (before == null) {
+            first = newFirst;
+        } else {
+            before.next = newFirst;
+        }
+
+        newLast.next = after;
+
+        if (after == null) {
+            last = newLast;
+        } else {
+            after.pre = newLast;
+        }
 
-            int initialLen = (newLen > remainedDataLen) ? newLen : remainedDataLen;
+        rebuildDirectory();
+    }
+
+    /**
+     * Fills the last node and links new nodes for the rest, new nodes have half of the size of list
+     * (or the rest of the data if it is bigger) but not more than maxNodeCapacity.
+     */
+    private void linkLastAll(Object[] collection) {
+
+        int len = collection.length;
+
+        int remainedStorage = min(last.elementData.length - last.elementDataPointer, len);
+
+        System.arraycopy(collection, 0, last.elementData, last.elementDataPointer, remainedStorage);
+
+        last.elementDataPointer += remainedStorage;
+        size += remainedStorage;
+
+        int copied = remainedStorage;
+
+        while (copied < len) {
+
+            int remainedDataLen = len - copied;
+
+            int newLen = (size >>> 1);
+            int initialLen = min((newLen > remainedDataLen) ? newLen : remainedDataLen, maxNodeCapacity);
 
             Node<T> l = last;
 
             Node<T> newNode = new Node<>(l, null, size, initialLen);
 
-            System.arraycopy(collection, remainedStorage, newNode.elementData, 0, remainedDataLen);
+            int copyLen = min(newNode.elementData.length, remainedDataLen);
 
-            newNode.elementDataPointer += remainedDataLen;
+            System.arraycopy(collection, copied, newNode.elementData, 0, copyLen);
+
+            newNode.elementDataPointer += copyLen;
 
             last = newNode;
             l.next = last;
 
-            modCount++;
-            size += remainedDataLen;
+            linkToDirectory(newNode);
 
-            return true;
+            copied += copyLen;
+            size += copyLen;
         }
-
-        return false;
     }
 
     @Override
@@ -342,9 +639,11 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         rangeCheck(index);
 
-        Node<T> node = getNode(index);
+        long position = getNode(index);
 
-        int nodeArrIndex = index - node.startingIndex;
+        Node<T> node = nodes[GlueNodes.slot(position)];
+
+        int nodeArrIndex = index - GlueNodes.startingIndex(position);
 
         T oldValue = node.elementData[nodeArrIndex];
 
@@ -358,9 +657,11 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         rangeCheck(index);
 
-        Node<T> node = getNode(index);
+        long position = getNode(index);
+
+        Node<T> node = nodes[GlueNodes.slot(position)];
 
-        return node.elementData[index - node.startingIndex];
+        return node.elementData[index - GlueNodes.startingIndex(position)];
     }
 
     @Override
@@ -434,6 +735,8 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         rangeCheck(index);
 
         Node<T> node;
+        int slot;
+        int nodeArrIndex;
 
         if (size == 2 && first != last) {
 
@@ -442,16 +745,23 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             newNode.add(last.elementData[0]);
 
             node = first = last = newNode;
+
+            initDirectory(newNode);
+
+            slot = 0;
+            nodeArrIndex = index;
         } else {
-            node = getNode(index);
+            long position = getNode(index);
+
+            slot = GlueNodes.slot(position);
+            node = nodes[slot];
+            nodeArrIndex = index - GlueNodes.startingIndex(position);
         }
 
         T[] elementData = node.elementData;
 
         int elementSize = node.elementDataPointer;
 
-        int nodeArrIndex = index - node.startingIndex;
-
         T oldValue = elementData[nodeArrIndex];
 
         int numMoved = elementSize - nodeArrIndex - 1;
@@ -460,19 +770,17 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             System.arraycopy(node.elementData, nodeArrIndex + 1, node.elementData, nodeArrIndex, numMoved);
         }
 
-        if (first == last || node == last) {
-            node.elementData[elementSize - 1] = null;
-        } else {
-            node.elementData = Arrays.copyOf(node.elementData, elementSize - 1);
-            node.endingIndex = (--node.endingIndex < 0) ? 0 : node.endingIndex;
-        }
+        //interior nodes keep their capacity as slack, the freed slot is just cleared.
+        node.elementData[elementSize - 1] = null;
 
         node.elementDataPointer--;
 
-        updateNodesAfterRemove(node);
+        GlueNodes.addToNodeSize(nodeSizeTree, nodeCount - 1, slot, -1);
 
         if (node.elementDataPointer == 0 && first != last) {
 
+            unlinkFromDirectory(slot);
+
             Node<T> next = node.next;
             Node<T> prev = node.pre;
 
@@ -491,6 +799,8 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             }
 
             node.elementData = null;
+        } else if (node != last && isUnderfilled(node)) {
+            mergeNode(slot);
         }
 
         size--;
@@ -504,18 +814,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         Objects.requireNonNull(c);
 
-        Object[] arr = c.toArray();
-        if (arr.length == 0) {
-            return false;
-        }
-
-        boolean isModified = false;
-
-        for (Object o : arr) {
-            isModified |= remove(o);
-        }
-
-        return isModified;
+        return batchRemove(c, true);
     }
 
     @Override
@@ -523,97 +822,305 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         Objects.requireNonNull(c);
 
-        Object[] arr = c.toArray();
-        if (arr.length == 0) {
-            return false;
-        }
+        return batchRemove(c, false);
+    }
 
-        boolean isModified = false;
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+
+        Objects.requireNonNull(filter);
 
-        Object[] elements = toArray();
+        int expectedModCount = modCount;
 
-        for (Object element : elements) {
+        BitSet removeSet = new BitSet(size);
 
-            if (!c.contains(element)) {
-                isModified |= remove(element);
+        int index = 0;
+        for (Node<T> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.elementDataPointer; i++, index++) {
+                if (filter.test(node.elementData[i])) {
+                    removeSet.set(index);
+                }
             }
         }
 
-        return isModified;
-    }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
 
-    @Override
-    public boolean remove(Object o) {
+        return removeMarked(removeSet);
+    }
 
-        int index = indexOf(o);
+    /**
+     * Big collections which are not sets are hashed once, so every element is checked in constant time.
+     */
+    private boolean batchRemove(Collection<?> c, boolean remove) {
 
-        if (index != -1) {
-            remove(index);
-            return true;
-        } else {
-            return false;
+        if (c.size() > HASHING_THRESHOLD && !(c instanceof Set)) {
+            c = new HashSet<>(c);
         }
-    }
 
-    private void updateNodesAfterRemove(Node<T> fromNode) {
+        BitSet removeSet = new BitSet(size);
 
-        for (Node<T> node = fromNode.next; node != null; node = node.next) {
-
-            node.startingIndex = (--node.startingIndex < 0) ? 0 : node.startingIndex;
-            node.endingIndex = (--node.endingIndex < 0) ? 0 : node.endingIndex;
+        int index = 0;
+        for (Node<T> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.elementDataPointer; i++, index++) {
+                if (c.contains(node.elementData[i]) == remove) {
+                    removeSet.set(index);
+                }
+            }
         }
-    }
 
-    private Node<T> getNode(int index) {
-
-        int firstStartingIndex = first.startingIndex;
-        int firstEndingIndex = first.endingIndex;
+        return removeMarked(removeSet);
+    }
 
-        int firstMinDistance = min(abs(index - firstStartingIndex), abs(index - firstEndingIndex));
+    /**
+     * Compacts the survivors to the front of the node chain with a read and a write cursor in one pass,
+     * every write node is filled up to its previous length and the nodes left behind are unlinked.
+     */
+    private boolean removeMarked(BitSet removeSet) {
 
-        int lastStartingIndex = last.startingIndex;
-        int lastEndingIndex = last.endingIndex;
+        int removed = removeSet.cardinality();
 
-        int lastMinDistance = min(abs(index - lastStartingIndex), abs(index - lastEndingIndex));
+        if (removed == 0) {
+            return false;
+        }
 
-        if (firstMinDistance <= lastMinDistance) {
+        Node<T> w = first;
+        int wi = 0;
 
-            Node<T> node = first;
-            do {
+        int index = 0;
+        for (Node<T> r = first; r != null; r = r.next) {
+            for (int ri = 0; ri < r.elementDataPointer; ri++, index++) {
 
-                if (node.startingIndex <= index && index <= node.endingIndex) {
-                    return node;
+                if (removeSet.get(index)) {
+                    continue;
                 }
 
-                node = node.next;
-            } while (true);
-        } else {
-
-            Node<T> node = last;
-            do {
-
-                if (node.startingIndex <= index && index <= node.endingIndex) {
-                    return node;
+                while (wi == w.elementDataPointer) {
+                    w = w.next;
+                    wi = 0;
                 }
 
-                node = node.pre;
-            } while (true);
+                w.elementData[wi++] = r.elementData[ri];
+            }
         }
-    }
 
-    private Node<T> getNodeForAdd(int index) {
+        Arrays.fill(w.elementData, wi, w.elementDataPointer, null);
 
-        if (index == size && !(last.startingIndex <= index && index <= last.endingIndex)) {
-            return null;
-        }
+        w.elementDataPointer = wi;
 
-        return getNode(index);
-    }
+        for (Node<T> node = w.next; node != null; ) {
 
-    private void rangeCheck(int index) {
+            Node<T> next = node.next;
 
-        if (index >= size || index < 0) {
-            throw new ArrayIndexOutOfBoundsException(index);
+            node.next = null;
+            node.pre = null;
+            node.elementData = null;
+
+            node = next;
+        }
+
+        w.next = null;
+        last = w;
+
+        rebuildDirectory();
+
+        modCount++;
+        size -= removed;
+
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+
+        int index = indexOf(o);
+
+        if (index != -1) {
+            remove(index);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Finds the node which holds the given index, the returned position packs the node's slot and starting index.
+     * The finger resolved by the previous lookup and its neighbours are checked first, so sequential
+     * and clustered accesses do not pay for a search. The finger is replaced only when the lookup leaves its node.
+     */
+    private long getNode(int index) {
+
+        Finger f = finger;
+
+        if (f != null && f.modCount == modCount) {
+
+            int slot = f.slot;
+            int startingIndex = f.startingIndex;
+
+            if (startingIndex <= index) {
+
+                int endingIndex = startingIndex + nodes[slot].elementDataPointer;
+
+                if (index < endingIndex) {
+                    return GlueNodes.position(slot, startingIndex);
+                }
+
+                if (slot + 1 < nodeCount && index < endingIndex + nodes[slot + 1].elementDataPointer) {
+                    finger = new Finger(slot + 1, endingIndex, modCount);
+                    return GlueNodes.position(slot + 1, endingIndex);
+                }
+            } else if (slot > 0) {
+
+                int previousStartingIndex = startingIndex - nodes[slot - 1].elementDataPointer;
+
+                if (previousStartingIndex <= index) {
+                    finger = new Finger(slot - 1, previousStartingIndex, modCount);
+                    return GlueNodes.position(slot - 1, previousStartingIndex);
+                }
+            }
+        }
+
+        long position = findNode(index);
+
+        finger = new Finger(GlueNodes.slot(position), GlueNodes.startingIndex(position), modCount);
+
+        return position;
+    }
+
+    /**
+     * Descends nodeSizeTree to the last node whose starting index is not greater than index.
+     * The last node is not part of the tree, its starting index is derived from size.
+     * Nothing is written, so the lookup is safe for concurrent readers of an unmodified list.
+     */
+    private long findNode(int index) {
+
+        int lastSlot = nodeCount - 1;
+        int lastStartingIndex = size - last.elementDataPointer;
+
+        if (index >= lastStartingIndex) {
+            return GlueNodes.position(lastSlot, lastStartingIndex);
+        }
+
+        return GlueNodes.findNode(nodeSizeTree, lastSlot, index);
+    }
+
+    int nodeStartingIndex(int slot) {
+        return GlueNodes.nodeStartingIndex(nodeSizeTree, slot);
+    }
+
+    private void initDirectory(Node<T> node) {
+
+        nodes = newNodeArray(DEFAULT_CAPACITY);
+        nodeSizeTree = new int[DEFAULT_CAPACITY + 1];
+
+        nodes[0] = node;
+
+        nodeCount = 1;
+        finger = null;
+    }
+
+    /**
+     * Appends the new last node to the directory, the previous last node joins nodeSizeTree.
+     */
+    private void linkToDirectory(Node<T> node) {
+
+        ensureDirectoryCapacity();
+
+        GlueNodes.linkToNodeSizeTree(nodeSizeTree, nodeCount, nodes[nodeCount - 1].elementDataPointer);
+
+        nodes[nodeCount++] = node;
+    }
+
+    /**
+     * Inserts a node linked in the middle of the chain, nodeSizeTree is rebuilt.
+     */
+    private void insertIntoDirectory(int slot, Node<T> node) {
+
+        if (slot == nodeCount) {
+            linkToDirectory(node);
+            return;
+        }
+
+        ensureDirectoryCapacity();
+
+        System.arraycopy(nodes, slot, nodes, slot + 1, nodeCount - slot);
+
+        nodes[slot] = node;
+
+        nodeCount++;
+
+        GlueNodes.buildNodeSizeTree(nodeSizeTree, nodes, nodeCount - 1, NODE_SIZE);
+    }
+
+    /**
+     * Builds the directory from the node chain, used after the chain is relinked as a whole.
+     */
+    private void rebuildDirectory() {
+
+        int count = 0;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+            count++;
+        }
+
+        if (count > nodes.length) {
+
+            int capacity = count + (count >>> 1);
+
+            nodes = newNodeArray(capacity);
+            nodeSizeTree = new int[capacity + 1];
+        } else if (count < nodeCount) {
+            Arrays.fill(nodes, count, nodeCount, null);
+        }
+
+        int slot = 0;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+            nodes[slot++] = node;
+        }
+
+        nodeCount = count;
+        finger = null;
+
+        GlueNodes.buildNodeSizeTree(nodeSizeTree, nodes, nodeCount - 1, NODE_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newNodeArray(int capacity) {
+        return (Node<T>[]) new Node<?>[capacity];
+    }
+
+    private void ensureDirectoryCapacity() {
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            nodeSizeTree = Arrays.copyOf(nodeSizeTree, newLen + 1);
+        }
+    }
+
+    private void unlinkFromDirectory(int slot) {
+
+        int numMoved = nodeCount - slot - 1;
+
+        if (numMoved > 0) {
+            System.arraycopy(nodes, slot + 1, nodes, slot, numMoved);
+        }
+
+        nodes[--nodeCount] = null;
+
+        if (numMoved > 0) {
+            GlueNodes.buildNodeSizeTree(nodeSizeTree, nodes, nodeCount - 1, NODE_SIZE);
+        }
+    }
+
+    private void rangeCheck(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
         }
     }
 
@@ -633,7 +1140,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         first = last = null;
 
-        int capacity = min(MAX_ARRAY_SIZE, max(size, max(initialCapacity, DEFAULT_CAPACITY)));
+        int capacity = min(maxNodeCapacity, max(size, max(initialCapacity, DEFAULT_CAPACITY)));
 
         Node<T> initNode = new Node<>(null, null, 0, capacity);
 
@@ -642,12 +1149,517 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         first = initNode;
         last = initNode;
 
+        initDirectory(initNode);
+
         modCount++;
         size = 0;
     }
 
+    /**
+     * Unlinks the nodes inside of the range at once and trims the two boundary nodes in place,
+     * the tail of the last boundary node is moved into the first one when it fits.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        if (fromIndex == 0 && toIndex == size) {
+
+            clear();
+
+            return;
+        }
+
+        long startPosition = getNode(fromIndex);
+
+        Node<T> startNode = nodes[GlueNodes.slot(startPosition)];
+        int startIdx = fromIndex - GlueNodes.startingIndex(startPosition);
+
+        long endPosition = getNode(toIndex - 1);
+
+        Node<T> endNode = nodes[GlueNodes.slot(endPosition)];
+        int endIdx = toIndex - GlueNodes.startingIndex(endPosition);
+
+        int removed = toIndex - fromIndex;
+
+        if (startNode == endNode) {
+
+            int numMoved = startNode.elementDataPointer - endIdx;
+
+            System.arraycopy(startNode.elementData, endIdx, startNode.elementData, startIdx, numMoved);
+
+            Arrays.fill(startNode.elementData, startIdx + numMoved, startNode.elementDataPointer, null);
+
+            startNode.elementDataPointer -= removed;
+        } else {
+
+            for (Node<T> node = startNode.next; node != endNode; ) {
+
+                Node<T> next = node.next;
+
+                node.next = null;
+                node.pre = null;
+                node.elementData = null;
+
+                node = next;
+            }
+
+            startNode.next = endNode;
+            endNode.pre = startNode;
+
+            Arrays.fill(startNode.elementData, startIdx, startNode.elementDataPointer, null);
+
+            startNode.elementDataPointer = startIdx;
+
+            int endLen = endNode.elementDataPointer - endIdx;
+
+            if (startNode.elementData.length - startIdx >= endLen) {
+
+                System.arraycopy(endNode.elementData, endIdx, startNode.elementData, startIdx, endLen);
+
+                startNode.elementDataPointer += endLen;
+
+                unlinkNode(endNode);
+            } else {
+
+                System.arraycopy(endNode.elementData, endIdx, endNode.elementData, 0, endLen);
+
+                Arrays.fill(endNode.elementData, endLen, endNode.elementDataPointer, null);
+
+                endNode.elementDataPointer = endLen;
+            }
+        }
+
+        if (startNode.elementDataPointer == 0) {
+            unlinkNode(startNode);
+        }
+
+        rebuildDirectory();
+
+        modCount++;
+        size -= removed;
+    }
+
+    private void unlinkNode(Node<T> node) {
+
+        Node<T> next = node.next;
+        Node<T> prev = node.pre;
+
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+            node.pre = null;
+        }
+
+        if (next == null) {
+            last = prev;
+        } else {
+            next.pre = prev;
+            node.next = null;
+        }
+
+        node.elementData = null;
+    }
+
+    /**
+     * Every node is sorted on its own, then the sorted nodes are merged into fresh full nodes.
+     * The sort is stable, equal elements keep the order of their nodes.
+     */
+    @Override
+    public void sort(Comparator<? super T> c) {
+
+        int expectedModCount = modCount;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+            Arrays.sort(node.elementData, 0, node.elementDataPointer, c);
+        }
+
+        if (first != last) {
+            mergeSortedNodes(c);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        modCount++;
+    }
+
+    /**
+     * K-way merge of the sorted nodes with a heap of node slots. The old nodes stay linked until the merge
+     * is done, so a comparator which throws leaves the list usable.
+     */
+    private void mergeSortedNodes(Comparator<? super T> c) {
+
+        Node<T>[] runs = Arrays.copyOf(nodes, nodeCount);
+
+        int[] cursors = new int[runs.length];
+        int[] heap = new int[runs.length];
+
+        int heapSize = 0;
+
+        for (int slot = 0; slot < runs.length; slot++) {
+            if (runs[slot].elementDataPointer > 0) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++, runs, cursors, c);
+            }
+        }
+
+        Node<T> newFirst = null;
+        Node<T> newLast = null;
+
+        for (int merged = 0; merged < size; ) {
+
+            int capacity = min(size - merged, maxNodeCapacity);
+
+            Node<T> newNode = new Node<>(newLast, null, merged, capacity);
+
+            while (newNode.elementDataPointer < capacity) {
+
+                int slot = heap[0];
+                Node<T> run = runs[slot];
+
+                newNode.elementData[newNode.elementDataPointer++] = run.elementData[cursors[slot]++];
+
+                if (cursors[slot] == run.elementDataPointer) {
+                    heap[0] = heap[--heapSize];
+                }
+
+                siftDown(heap, heapSize, runs, cursors, c);
+            }
+
+            if (newLast == null) {
+                newFirst = newNode;
+            } else {
+                newLast.next = newNode;
+            }
+
+            newLast = newNode;
+
+            merged += capacity;
+        }
+
+        for (Node<T> run : runs) {
+
+            run.pre = null;
+            run.next = null;
+            run.elementData = null;
+        }
+
+        first = newFirst;
+        last = newLast;
+
+        rebuildDirectory();
+    }
+
+    /**
+     * Sorts the nodes concurrently on the common ForkJoinPool and merges them in parallel,
+     * small lists fall back to sort(Comparator). The sort is stable.
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super T> c) {
+
+        if (size < PARALLEL_SORT_THRESHOLD || first == last) {
+
+            sort(c);
+
+            return;
+        }
+
+        int expectedModCount = modCount;
+
+        int[] offsets = new int[nodeCount + 1];
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+            offsets[slot + 1] = offsets[slot] + nodes[slot].elementDataPointer;
+        }
+
+        Object[] src = new Object[size];
+        Object[] dst = new Object[size];
+
+        new SortNodesTask<>(nodes, offsets, 0, nodeCount, src, dst, c).invoke();
+
+        new MergeRunsTask<>(offsets, 0, nodeCount, src, dst, c).invoke();
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        for (Node<T> node = first; node != null; ) {
+
+            Node<T> next = node.next;
+
+            node.next = null;
+            node.pre = null;
+            node.elementData = null;
+
+            node = next;
+        }
+
+        first = last = null;
+
+        for (int copied = 0; copied < size; ) {
+
+            int capacity = min(size - copied, maxNodeCapacity);
+
+            Node<T> newNode = new Node<>(last, null, copied, capacity);
+
+            System.arraycopy(dst, copied, newNode.elementData, 0, capacity);
+
+            newNode.elementDataPointer = capacity;
+
+            if (last == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+
+            last = newNode;
+
+            copied += capacity;
+        }
+
+        rebuildDirectory();
+
+        modCount++;
+    }
+
+    /**
+     * Sorts every node of the slot range and copies it into both buffers at its offset.
+     */
+    static final class SortNodesTask<T> extends RecursiveAction {
+
+        final Node<T>[] nodes;
+        final int[] offsets;
+        final int lo, hi;
+        final Object[] src, dst;
+        final Comparator<? super T> c;
+
+        SortNodesTask(Node<T>[] nodes, int[] offsets, int lo, int hi, Object[] src, Object[] dst, Comparator<? super T> c) {
+            this.nodes = nodes;
+            this.offsets = offsets;
+            this.lo = lo;
+            this.hi = hi;
+            this.src = src;
+            this.dst = dst;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (hi - lo > 1) {
+
+                int mid = (lo + hi) >>> 1;
+
+                invokeAll(new SortNodesTask<>(nodes, offsets, lo, mid, src, dst, c),
+                        new SortNodesTask<>(nodes, offsets, mid, hi, src, dst, c));
+
+                return;
+            }
+
+            Node<T> node = nodes[lo];
+
+            Arrays.sort(node.elementData, 0, node.elementDataPointer, c);
+
+            System.arraycopy(node.elementData, 0, src, offsets[lo], node.elementDataPointer);
+            System.arraycopy(node.elementData, 0, dst, offsets[lo], node.elementDataPointer);
+        }
+    }
+
+    /**
+     * Merges the sorted runs of the slot range into dst, both buffers hold the runs when it starts.
+     * The halves are merged into src by swapping the buffers, so no run is copied back.
+     */
+    static final class MergeRunsTask<T> extends RecursiveAction {
+
+        final int[] offsets;
+        final int lo, hi;
+        final Object[] src, dst;
+        final Comparator<? super T> c;
+
+        MergeRunsTask(int[] offsets, int lo, int hi, Object[] src, Object[] dst, Comparator<? super T> c) {
+            this.offsets = offsets;
+            this.lo = lo;
+            this.hi = hi;
+            this.src = src;
+            this.dst = dst;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+
+            if (hi - lo < 2) {
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+
+            invokeAll(new MergeRunsTask<>(offsets, lo, mid, dst, src, c),
+                    new MergeRunsTask<>(offsets, mid, hi, dst, src, c));
+
+            new MergeTask<>(src, offsets[lo], offsets[mid], offsets[mid], offsets[hi], dst, offsets[lo], c).compute();
+        }
+    }
+
+    /**
+     * Stable merge of two sorted ranges of src into dst, big merges are split at the middle of the bigger range
+     * and the two halves are merged concurrently.
+     */
+    static final class MergeTask<T> extends RecursiveAction {
+
+        final Object[] src;
+        final int leftLo, leftHi, rightLo, rightHi;
+        final Object[] dst;
+        final int dstLo;
+        final Comparator<? super T> c;
+
+        MergeTask(Object[] src, int leftLo, int leftHi, int rightLo, int rightHi, Object[] dst, int dstLo, Comparator<? super T> c) {
+            this.src = src;
+            this.leftLo = leftLo;
+            this.leftHi = leftHi;
+            this.rightLo = rightLo;
+            this.rightHi = rightHi;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.c = c;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        protected void compute() {
+
+            int leftLen = leftHi - leftLo;
+            int rightLen = rightHi - rightLo;
+
+            if (leftLen + rightLen < PARALLEL_SORT_THRESHOLD) {
+
+                int l = leftLo;
+                int r = rightLo;
+                int d = dstLo;
+
+                while (l < leftHi && r < rightHi) {
+                    dst[d++] = (compare((T) src[r], (T) src[l], c) < 0) ? src[r++] : src[l++];
+                }
+
+                System.arraycopy(src, l, dst, d, leftHi - l);
+                System.arraycopy(src, r, dst, d + leftHi - l, rightHi - r);
+
+                return;
+            }
+
+            int leftMid;
+            int rightMid;
+
+            if (leftLen >= rightLen) {
+                leftMid = (leftLo + leftHi) >>> 1;
+                rightMid = bound((T) src[leftMid], rightLo, rightHi, false);
+            } else {
+                rightMid = (rightLo + rightHi) >>> 1;
+                leftMid = bound((T) src[rightMid], leftLo, leftHi, true);
+            }
+
+            int dstMid = dstLo + (leftMid - leftLo) + (rightMid - rightLo);
+
+            invokeAll(new MergeTask<>(src, leftLo, leftMid, rightLo, rightMid, dst, dstLo, c),
+                    new MergeTask<>(src, leftMid, leftHi, rightMid, rightHi, dst, dstMid, c));
+        }
+
+        /**
+         * First index of the range whose element is greater than key, or not less than key when upper is false.
+         * Equal elements of the left range stay before the equal elements of the right range.
+         */
+        @SuppressWarnings("unchecked")
+        private int bound(T key, int lo, int hi, boolean upper) {
+
+            while (lo < hi) {
+
+                int mid = (lo + hi) >>> 1;
+
+                int cmp = compare((T) src[mid], key, c);
+
+                if (cmp < 0 || (upper && cmp == 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+
+            return lo;
+        }
+    }
+
+    private static <T> boolean isBefore(int a, int b, Node<T>[] runs, int[] cursors, Comparator<? super T> c) {
+
+        int cmp = compare(runs[a].elementData[cursors[a]], runs[b].elementData[cursors[b]], c);
+
+        return cmp < 0 || (cmp == 0 && a < b);
+    }
+
+    private static <T> void siftUp(int[] heap, int k, Node<T>[] runs, int[] cursors, Comparator<? super T> c) {
+
+        int slot = heap[k];
+
+        while (k > 0) {
+
+            int parent = (k - 1) >>> 1;
+
+            if (!isBefore(slot, heap[parent], runs, cursors, c)) {
+                break;
+            }
+
+            heap[k] = heap[parent];
+            k = parent;
+        }
+
+        heap[k] = slot;
+    }
+
+    private static <T> void siftDown(int[] heap, int heapSize, Node<T>[] runs, int[] cursors, Comparator<? super T> c) {
+
+        if (heapSize == 0) {
+            return;
+        }
+
+        int slot = heap[0];
+        int k = 0;
+
+        for (int child = 1; child < heapSize; child = (k << 1) + 1) {
+
+            if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child], runs, cursors, c)) {
+                child++;
+            }
+
+            if (!isBefore(heap[child], slot, runs, cursors, c)) {
+                break;
+            }
+
+            heap[k] = heap[child];
+            k = child;
+        }
+
+        heap[k] = slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> int compare(T a, T b, Comparator<? super T> c) {
+        return (c == null) ? ((Comparable<? super T>) a).compareTo(b) : c.compare(a, b);
+    }
+
     public void trimToSize() {
 
+        for (Node<T> node = first; node != last; node = node.next) {
+
+            if (node.elementDataPointer < node.elementData.length) {
+                node.elementData = Arrays.copyOf(node.elementData, node.elementDataPointer);
+            }
+        }
+
         int pointer = last.elementDataPointer;
         int arrLen = last.elementData.length;
 
@@ -655,10 +1667,8 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
             if (pointer < 2) {
                 last.elementData = Arrays.copyOf(last.elementData, 2);
-                last.endingIndex -= arrLen - 2;
             } else {
                 last.elementData = Arrays.copyOf(last.elementData, pointer);
-                last.endingIndex -= arrLen - pointer;
             }
         }
     }
@@ -699,11 +1709,23 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
     }
 
     @Override
-    public Iterator<T> iterator() {
+    public BatchIterator<T> iterator() {
         return new Itr();
     }
 
-    private class Itr implements Iterator<T> {
+    /**
+     * Iterator which can also copy the next elements into an array, whole node ranges at once.
+     */
+    public interface BatchIterator<T> extends Iterator<T> {
+
+        /**
+         * Copies at most max next elements into dst starting from off and returns how many were copied,
+         * 0 when there is no element left.
+         */
+        int nextBatch(T[] dst, int off, int max);
+    }
+
+    private class Itr implements BatchIterator<T> {
 
         Node<T> node = first;
 
@@ -715,22 +1737,56 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         int expectedModCount = modCount;
         int elementDataPointer = node.elementDataPointer;
 
-        @Override
-        public boolean hasNext() {
-            return j != size;
+        @Override
+        public boolean hasNext() {
+            return j != size;
+        }
+
+        @Override
+        public T next() {
+
+            checkForComodification();
+
+            if (j >= size) {
+                throw new NoSuchElementException();
+            }
+
+            if (j == 0) {// it's for listIterator.when node becomes null.
+                node = first;
+                elementDataPointer = node.elementDataPointer;
+                i = 0;
+            }
+
+            if (node == null) {
+                throw new ConcurrentModificationException();
+            }
+
+            T val = node.elementData[i++];
+
+            if (i >= elementDataPointer) {
+                node = node.next;
+                i = 0;
+                elementDataPointer = (node != null) ? node.elementDataPointer : 0;
+            }
+
+            lastReturn = j++;
+
+            return val;
         }
 
         @Override
-        public T next() {
+        public int nextBatch(T[] dst, int off, int max) {
 
             checkForComodification();
 
-            if (j >= size) {
-                throw new NoSuchElementException();
+            if (off < 0 || max < 0 || off > dst.length - max) {
+                throw new ArrayIndexOutOfBoundsException("Illegal Batch Range: " + off + ", " + max);
             }
 
-            if (j >= last.endingIndex + 1) {
-                throw new ConcurrentModificationException();
+            int len = min(max, size - j);
+
+            if (len == 0) {
+                return 0;
             }
 
             if (j == 0) {// it's for listIterator.when node becomes null.
@@ -739,17 +1795,27 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
                 i = 0;
             }
 
-            T val = node.elementData[i++];
+            for (int copied = 0; copied < len; ) {
 
-            if (i >= elementDataPointer) {
-                node = node.next;
-                i = 0;
-                elementDataPointer = (node != null) ? node.elementDataPointer : 0;
+                int copyLen = min(elementDataPointer - i, len - copied);
+
+                System.arraycopy(node.elementData, i, dst, off + copied, copyLen);
+
+                copied += copyLen;
+                i += copyLen;
+
+                if (i >= elementDataPointer) {
+                    node = node.next;
+                    i = 0;
+                    elementDataPointer = (node != null) ? node.elementDataPointer : 0;
+                }
             }
 
-            lastReturn = j++;
+            j += len;
 
-            return val;
+            lastReturn = j - 1;
+
+            return len;
         }
 
         @Override
@@ -768,9 +1834,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
                 lastReturn = -1;
 
-                i = (--i < 0) ? 0 : i;
-
-                elementDataPointer = (node != null) ? node.elementDataPointer : 0;
+                moveTo(j);
 
                 expectedModCount = modCount;
             } catch (IndexOutOfBoundsException e) {
@@ -778,6 +1842,25 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
             }
         }
 
+        /**
+         * Nodes may have been split or merged by a modification, finds the node of the cursor again.
+         */
+        void moveTo(int index) {
+
+            if (index == size) {
+                node = null;
+                i = 0;
+                elementDataPointer = 0;
+                return;
+            }
+
+            long position = getNode(index);
+
+            node = nodes[GlueNodes.slot(position)];
+            i = index - GlueNodes.startingIndex(position);
+            elementDataPointer = node.elementDataPointer;
+        }
+
         void checkForComodification() {
             if (modCount != expectedModCount) {
                 throw new ConcurrentModificationException();
@@ -785,6 +1868,38 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         }
     }
 
+    /**
+     * Copies len elements starting from srcIndex into dst starting from dstOff, whole node ranges at once.
+     */
+    public void copyTo(int srcIndex, T[] dst, int dstOff, int len) {
+
+        if (srcIndex < 0 || len < 0 || srcIndex > size - len) {
+            throw new ArrayIndexOutOfBoundsException("Illegal Copy Range: " + srcIndex + ", " + len);
+        }
+
+        if (dstOff < 0 || dstOff > dst.length - len) {
+            throw new ArrayIndexOutOfBoundsException("Illegal Copy Range: " + dstOff + ", " + len);
+        }
+
+        if (len == 0) {
+            return;
+        }
+
+        long position = getNode(srcIndex);
+
+        Node<T> node = nodes[GlueNodes.slot(position)];
+        int i = srcIndex - GlueNodes.startingIndex(position);
+
+        for (int copied = 0; copied < len; node = node.next, i = 0) {
+
+            int copyLen = min(node.elementDataPointer - i, len - copied);
+
+            System.arraycopy(node.elementData, i, dst, dstOff + copied, copyLen);
+
+            copied += copyLen;
+        }
+    }
+
     @Override
     public ListIterator<T> listIterator(int index) {
 
@@ -808,9 +1923,18 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
     private class ListItr extends Itr implements ListIterator<T> {
 
         public ListItr(int index) {
-            node = (index == size) ? last : getNode(index);
+
+            if (index == size) {
+                node = last;
+                i = last.elementDataPointer;
+            } else {
+                long position = getNode(index);
+
+                node = nodes[GlueNodes.slot(position)];
+                i = index - GlueNodes.startingIndex(position);
+            }
+
             j = index;
-            i = index - node.startingIndex;
             elementDataPointer = node.elementDataPointer;
         }
 
@@ -830,10 +1954,6 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
                 throw new NoSuchElementException();
             }
 
-            if (temp >= last.endingIndex + 1) {
-                throw new ConcurrentModificationException();
-            }
-
             if (j == size) {
 
                 node = last;
@@ -843,8 +1963,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
                 i = elementDataPointer;
             }
 
-            int index = j - node.startingIndex;
-            if (index == 0) {
+            if (i == 0) {
 
                 node = node.pre;
 
@@ -907,8 +2026,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
                 lastReturn = -1;
 
-                i++;
-                elementDataPointer = (node != null) ? node.elementDataPointer : 0;
+                moveTo(j);
 
                 expectedModCount = modCount;
             } catch (IndexOutOfBoundsException e) {
@@ -922,6 +2040,323 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
         return size;
     }
 
+    @Override
+    public void forEach(Consumer<? super T> action) {
+
+        Objects.requireNonNull(action);
+
+        int expectedModCount = modCount;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+
+            T[] elementData = node.elementData;
+            int len = node.elementDataPointer;
+
+            for (int i = 0; i < len; i++) {
+                action.accept(elementData[i]);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+
+        Objects.requireNonNull(operator);
+
+        int expectedModCount = modCount;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+
+            T[] elementData = node.elementData;
+            int len = node.elementDataPointer;
+
+            for (int i = 0; i < len; i++) {
+                elementData[i] = operator.apply(elementData[i]);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Hands every non-empty node array to the action with the range of its elements, the array belongs to the list
+     * so it must only be read and never kept after the call.
+     */
+    public void forEachChunk(ChunkConsumer action) {
+
+        Objects.requireNonNull(action);
+
+        int expectedModCount = modCount;
+
+        for (Node<T> node = first; node != null; node = node.next) {
+            if (node.elementDataPointer > 0) {
+                action.accept(node.elementData, 0, node.elementDataPointer);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Iterator of read-only views over the nodes, one chunk per non-empty node.
+     */
+    public Iterator<Chunk<T>> chunkIterator() {
+        return new ChunkItr();
+    }
+
+    private class ChunkItr implements Iterator<Chunk<T>> {
+
+        Node<T> node = first;
+
+        int expectedModCount = modCount;
+
+        ChunkItr() {
+            skipEmptyNodes();
+        }
+
+        private void skipEmptyNodes() {
+            while (node != null && node.elementDataPointer == 0) {
+                node = node.next;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return node != null;
+        }
+
+        @Override
+        public Chunk<T> next() {
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (node == null) {
+                throw new NoSuchElementException();
+            }
+
+            Chunk<T> chunk = new Chunk<>(node.elementData, node.elementDataPointer);
+
+            node = node.next;
+
+            skipEmptyNodes();
+
+            return chunk;
+        }
+    }
+
+    /**
+     * Receives a node array and the range of its elements.
+     */
+    public interface ChunkConsumer {
+        void accept(Object[] array, int offset, int length);
+    }
+
+    /**
+     * Read-only view over the elements of one node, valid until the list is modified.
+     */
+    public static final class Chunk<T> {
+
+        private final T[] elementData;
+        private final int length;
+
+        Chunk(T[] elementData, int length) {
+            this.elementData = elementData;
+            this.length = length;
+        }
+
+        public int length() {
+            return length;
+        }
+
+        public T get(int index) {
+
+            if (index >= length || index < 0) {
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
+
+            return elementData[index];
+        }
+
+        /**
+         * Copies the elements of the chunk into dst starting from dstOff.
+         */
+        public void copyTo(Object[] dst, int dstOff) {
+            System.arraycopy(elementData, 0, dst, dstOff, length);
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator(null, 0, 0, -1, 0);
+    }
+
+    /**
+     * Late binding spliterator which walks node arrays directly. It splits on the node boundary nearest to the
+     * middle of its range, when there is no boundary close to the middle it splits by array range.
+     */
+    final class NodeSpliterator implements Spliterator<T> {
+
+        Node<T> node;
+        int i;//inner-array index
+
+        int index;//total index
+        int fence;//-1 until first use
+
+        int expectedModCount;
+
+        NodeSpliterator(Node<T> node, int i, int index, int fence, int expectedModCount) {
+            this.node = node;
+            this.i = i;
+            this.index = index;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+
+            if (fence < 0) {
+                node = first;
+                i = 0;
+                fence = size;
+                expectedModCount = modCount;
+            }
+
+            return fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+
+            int hi = getFence();
+            int lo = index;
+
+            if (hi - lo < 2) {
+                return null;
+            }
+
+            int mid = (lo + hi) >>> 1;
+
+            //splits run on several threads at once, so the lookup must not go through the finger.
+            long position = findNode(mid);
+
+            Node<T> midNode = nodes[GlueNodes.slot(position)];
+
+            int nodeStart = GlueNodes.startingIndex(position);
+            int nodeEnd = nodeStart + midNode.elementDataPointer;
+
+            int slack = (hi - lo) >>> 2;
+
+            boolean isStartInside = nodeStart > lo && mid - nodeStart <= slack;
+            boolean isEndInside = nodeEnd < hi && nodeEnd - mid <= slack;
+
+            int split;
+            Node<T> splitNode;
+            int splitI;
+
+            if (isStartInside && (!isEndInside || mid - nodeStart <= nodeEnd - mid)) {
+                split = nodeStart;
+                splitNode = midNode;
+                splitI = 0;
+            } else if (isEndInside) {
+                split = nodeEnd;
+                splitNode = midNode.next;
+                splitI = 0;
+            } else {
+                split = mid;
+                splitNode = midNode;
+                splitI = mid - nodeStart;
+            }
+
+            NodeSpliterator prefix = new NodeSpliterator(node, i, lo, split, expectedModCount);
+
+            node = splitNode;
+            i = splitI;
+            index = split;
+
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+
+            Objects.requireNonNull(action);
+
+            if (index >= getFence()) {
+                return false;
+            }
+
+            while (i >= node.elementDataPointer) {
+                node = node.next;
+                i = 0;
+            }
+
+            T val = node.elementData[i++];
+
+            index++;
+
+            action.accept(val);
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+
+            Objects.requireNonNull(action);
+
+            int hi = getFence();
+
+            Node<T> n = node;
+            int k = i;
+
+            for (int remained = hi - index; remained > 0; n = n.next, k = 0) {
+
+                T[] elementData = n.elementData;
+
+                int end = min(n.elementDataPointer, k + remained);
+
+                remained -= end - k;
+
+                for (; k < end; k++) {
+                    action.accept(elementData[k]);
+                }
+            }
+
+            node = null;
+            index = hi;
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public Object clone() {
@@ -931,7 +2366,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
             clone.first = clone.last = null;
 
-            int capacity = min(MAX_ARRAY_SIZE, max(clone.size, max(clone.initialCapacity, DEFAULT_CAPACITY)));
+            int capacity = min(maxNodeCapacity, max(clone.size, max(clone.initialCapacity, DEFAULT_CAPACITY)));
 
             Node<T> initNode = new Node<>(null, null, 0, capacity);
 
@@ -939,6 +2374,10 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
             clone.first = clone.last = initNode;
 
+            clone.initDirectory(initNode);
+
+            clone.finger = null;
+
             clone.modCount = 0;
             clone.size = 0;
 
@@ -978,14 +2417,31 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
     @SuppressWarnings("unchecked")
     private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
 
-        clear();
-
         s.defaultReadObject();
 
         int size = s.readInt();
 
+        clear();
+
         for (int i = 0; i < size; i++) {
-            last.add((T) s.readObject());
+            add((T) s.readObject());
+        }
+    }
+
+    /**
+     * Result of the last node lookup, directory slot of the node and the list index of its first element.
+     * It is trusted until the list is modified and always published as a whole, never written field by field.
+     */
+    static final class Finger {
+
+        final int slot;
+        final int startingIndex;
+        final int modCount;
+
+        Finger(int slot, int startingIndex, int modCount) {
+            this.slot = slot;
+            this.startingIndex = startingIndex;
+            this.modCount = modCount;
         }
     }
 
@@ -996,29 +2452,14 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         int listSize;
 
-        int startingIndex;
-        int endingIndex;
-
         T[] elementData;
         int elementDataPointer;
 
-        @SuppressWarnings("unchecked")
-        Node(Node<T> pre, Node<T> next, int listSize) {
-            this.pre = pre;
-            this.next = next;
-            this.listSize = listSize;
-            this.elementData = (T[]) new Object[listSize >>> 1];
-            this.startingIndex = listSize;
-            this.endingIndex = listSize + elementData.length - 1;
-        }
-
         Node(Node<T> pre, Node<T> next, int listSize, int initialCapacity) {
             this.pre = pre;
             this.next = next;
             this.listSize = listSize;
             this.elementData = createElementData(initialCapacity);
-            this.startingIndex = listSize;
-            this.endingIndex = listSize + elementData.length - 1;
         }
 
         @SuppressWarnings("unchecked")
@@ -1043,7 +2484,7 @@ public class GlueList<T> extends AbstractList<T> implements List<T>, Cloneable,
 
         @Override
         public String toString() {
-            return String.format("[sIndex: %d - eIndex: %d | elementDataPointer: %d | elementDataLength: %d]", startingIndex, endingIndex, elementDataPointer, elementData.length);
+            return String.format("[elementDataPointer: %d | elementDataLength: %d]", elementDataPointer, elementData.length);
         }
     }
 }
\ No newline at end of file
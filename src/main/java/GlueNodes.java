@@ -0,0 +1,152 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.util.function.ToIntFunction;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Node sizing and node lookups shared by the GlueList variants which keep their nodes in a directory array.
+ * <br>
+ * Append-only lists search a sorted array of node starting indexes. Lists which edit their nodes keep a nodeSizeTree
+ * instead, a Fenwick tree over the sizes of every node but the last one where tree[i] covers the node at slot i - 1.
+ * Editing a node costs O(log m) and appending a node keeps the tree valid without rebuilding it.
+ */
+final class GlueNodes {
+
+    private GlueNodes() {
+    }
+
+    /**
+     * Capacity of a new last node, half of the size of list like GlueList.add, bounded by min and max capacity.
+     */
+    static int newNodeCapacity(int size, int minCapacity, int maxNodeCapacity) {
+        return min(max(size >>> 1, minCapacity), maxNodeCapacity);
+    }
+
+    /**
+     * Packs the directory slot of a node and the list index of its first element into one position, so a lookup
+     * hands both back without allocating and without leaving either of them in a shared field.
+     */
+    static long position(int slot, int startingIndex) {
+        return ((long) slot << 32) | (startingIndex & 0xFFFFFFFFL);
+    }
+
+    static int slot(long position) {
+        return (int) (position >>> 32);
+    }
+
+    static int startingIndex(long position) {
+        return (int) position;
+    }
+
+    /**
+     * Binary search of the last node whose starting index is not greater than index, for lists which only append
+     * nodes so the starting index of a node never changes.
+     */
+    static int searchNode(int[] startingIndexes, int nodeCount, int index) {
+
+        int lo = 0;
+        int hi = nodeCount - 1;
+
+        while (lo < hi) {
+
+            int mid = (lo + hi + 1) >>> 1;
+
+            if (startingIndexes[mid] <= index) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * Descends the tree to the last node whose starting index is not greater than index, the returned position
+     * carries the slot and the starting index of the node. Nothing is written, concurrent readers are safe.
+     */
+    static long findNode(int[] nodeSizeTree, int lastSlot, int index) {
+
+        int slot = 0;
+        int remained = index;
+
+        for (int step = Integer.highestOneBit(lastSlot); step > 0; step >>>= 1) {
+
+            int next = slot + step;
+
+            if (next <= lastSlot && nodeSizeTree[next] <= remained) {
+                slot = next;
+                remained -= nodeSizeTree[next];
+            }
+        }
+
+        return position(slot, index - remained);
+    }
+
+    static int nodeStartingIndex(int[] nodeSizeTree, int slot) {
+
+        int startingIndex = 0;
+
+        for (int i = slot; i > 0; i -= i & -i) {
+            startingIndex += nodeSizeTree[i];
+        }
+
+        return startingIndex;
+    }
+
+    static void addToNodeSize(int[] nodeSizeTree, int lastSlot, int slot, int delta) {
+
+        for (int i = slot + 1; i <= lastSlot; i += i & -i) {
+            nodeSizeTree[i] += delta;
+        }
+    }
+
+    /**
+     * A node is appended at position, so the previous last node of the given size joins the tree.
+     */
+    static void linkToNodeSizeTree(int[] nodeSizeTree, int position, int previousLastSize) {
+
+        int value = previousLastSize;
+
+        for (int i = 1; i < (position & -position); i <<= 1) {
+            value += nodeSizeTree[position - i];
+        }
+
+        nodeSizeTree[position] = value;
+    }
+
+    /**
+     * Builds the tree from the sizes of nodes[0..lastSlot - 1], used after a node is inserted or removed in the middle.
+     */
+    static <N> void buildNodeSizeTree(int[] nodeSizeTree, N[] nodes, int lastSlot, ToIntFunction<? super N> nodeSize) {
+
+        for (int i = 1; i <= lastSlot; i++) {
+            nodeSizeTree[i] = nodeSize.applyAsInt(nodes[i - 1]);
+        }
+
+        for (int i = 1; i <= lastSlot; i++) {
+
+            int parent = i + (i & -i);
+
+            if (parent <= lastSlot) {
+                nodeSizeTree[parent] += nodeSizeTree[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,772 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * GlueTreeList is the sibling of GlueList for very large lists with frequent positional edits.
+ * <br>
+ * Elements live in the same GlueList.Node arrays and the nodes are still linked with each other, so iteration
+ * walks plain arrays just like GlueList. Unlike GlueList the nodes have a fixed capacity and they are organized
+ * under a shallow B+tree whose branches keep the element count of every subtree.
+ * <br>
+ * A full node is split in two halves, an underfilled node is merged with its neighbour when both fit into one node.
+ * <p/>
+ * "n" number of elements.<br>
+ * Add O(log n)<br>
+ * Add with index O(log n)<br>
+ * Remove O(log n)<br>
+ * Access O(log n)<br>
+ * Search O(n)
+ *
+ * @param <T> the type of elements held in this collection
+ * @see GlueList
+ */
+public class GlueTreeList<T> extends AbstractList<T> implements List<T>, Cloneable, Serializable {
+
+    private static final int DEFAULT_NODE_CAPACITY = 1024;
+
+    private static final int BRANCH_CAPACITY = 64;
+
+    transient Object root;
+
+    transient GlueList.Node<T> first;
+    transient GlueList.Node<T> last;
+
+    int size;
+
+    int nodeCapacity;
+
+    public GlueTreeList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public GlueTreeList(int nodeCapacity) {
+
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Illegal Node Capacity: " + nodeCapacity);
+        }
+
+        this.nodeCapacity = nodeCapacity;
+
+        init();
+    }
+
+    public GlueTreeList(Collection<? extends T> c) {
+
+        this(DEFAULT_NODE_CAPACITY);
+
+        addAll(c);
+    }
+
+    private void init() {
+
+        GlueList.Node<T> node = new GlueList.Node<>(null, null, 0, nodeCapacity);
+
+        root = node;
+        first = node;
+        last = node;
+    }
+
+    @Override
+    public boolean add(T element) {
+
+        GlueList.Node<T> l = last;
+
+        if (l.isAddable()) {
+
+            l.add(element);
+
+            for (Object n = root; n instanceof Branch; ) {
+
+                Branch b = (Branch) n;
+                int k = b.childCount - 1;
+
+                b.sizes[k]++;
+                b.size++;
+
+                n = b.children[k];
+            }
+
+            modCount++;
+            size++;
+        } else {
+            add(size, element);
+        }
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+
+        rangeCheckForAdd(index);
+
+        Object sibling = insert(root, index, element);
+
+        if (sibling != null) {
+
+            Branch newRoot = new Branch();
+
+            newRoot.addChild(0, root, sizeOf(root));
+            newRoot.addChild(1, sibling, sizeOf(sibling));
+
+            newRoot.size = size + 1;
+
+            root = newRoot;
+        }
+
+        modCount++;
+        size++;
+    }
+
+    /**
+     * Inserts the element into the subtree and returns the new right sibling when the subtree had to be split.
+     */
+    @SuppressWarnings("unchecked")
+    private Object insert(Object n, int index, T element) {
+
+        if (!(n instanceof Branch)) {
+            return insertIntoNode((GlueList.Node<T>) n, index, element);
+        }
+
+        Branch b = (Branch) n;
+
+        int k = 0;
+        int lastChild = b.childCount - 1;
+
+        while (k < lastChild && index > b.sizes[k]) {
+            index -= b.sizes[k++];
+        }
+
+        Object child = b.children[k];
+
+        Object sibling = insert(child, index, element);
+
+        b.size++;
+
+        if (sibling == null) {
+            b.sizes[k]++;
+            return null;
+        }
+
+        b.sizes[k] = sizeOf(child);
+        b.addChild(k + 1, sibling, sizeOf(sibling));
+
+        if (b.childCount < BRANCH_CAPACITY) {
+            return null;
+        }
+
+        return b.split();
+    }
+
+    private GlueList.Node<T> insertIntoNode(GlueList.Node<T> node, int index, T element) {
+
+        GlueList.Node<T> sibling = null;
+
+        //appending to the full last leaf links a new leaf, so a list built by appending keeps its leaves full.
+        if (!node.isAddable() && node == last && index == node.elementDataPointer) {
+
+            sibling = linkNewLast(node);
+
+            sibling.add(element);
+
+            return sibling;
+        }
+
+        if (!node.isAddable()) {
+
+            sibling = splitNode(node);
+
+            int leftSize = node.elementDataPointer;
+
+            if (index > leftSize) {
+                insertIntoArray(sibling, index - leftSize, element);
+                return sibling;
+            }
+        }
+
+        insertIntoArray(node, index, element);
+
+        return sibling;
+    }
+
+    private void insertIntoArray(GlueList.Node<T> node, int nodeArrIndex, T element) {
+
+        System.arraycopy(node.elementData, nodeArrIndex, node.elementData, nodeArrIndex + 1, node.elementDataPointer - nodeArrIndex);
+
+        node.elementData[nodeArrIndex] = element;
+        node.elementDataPointer++;
+    }
+
+    private GlueList.Node<T> linkNewLast(GlueList.Node<T> node) {
+
+        GlueList.Node<T> newNode = new GlueList.Node<>(node, null, 0, nodeCapacity);
+
+        node.next = newNode;
+        last = newNode;
+
+        return newNode;
+    }
+
+    private GlueList.Node<T> splitNode(GlueList.Node<T> node) {
+
+        int leftSize = node.elementDataPointer >>> 1;
+        int rightSize = node.elementDataPointer - leftSize;
+
+        GlueList.Node<T> sibling = new GlueList.Node<>(node, node.next, 0, nodeCapacity);
+
+        System.arraycopy(node.elementData, leftSize, sibling.elementData, 0, rightSize);
+
+        for (int i = leftSize; i < node.elementDataPointer; i++) {
+            node.elementData[i] = null;
+        }
+
+        node.elementDataPointer = leftSize;
+        sibling.elementDataPointer = rightSize;
+
+        if (node.next == null) {
+            last = sibling;
+        } else {
+            node.next.pre = sibling;
+        }
+
+        node.next = sibling;
+
+        return sibling;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+
+        Objects.requireNonNull(c);
+
+        Object[] arr = c.toArray();
+
+        for (Object o : arr) {
+            add(elementOf(o));
+        }
+
+        return arr.length != 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+
+        rangeCheck(index);
+
+        Object n = root;
+
+        while (n instanceof Branch) {
+
+            Branch b = (Branch) n;
+
+            int k = 0;
+
+            while (index >= b.sizes[k]) {
+                index -= b.sizes[k++];
+            }
+
+            n = b.children[k];
+        }
+
+        return ((GlueList.Node<T>) n).elementData[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T set(int index, T element) {
+
+        rangeCheck(index);
+
+        Object n = root;
+
+        while (n instanceof Branch) {
+
+            Branch b = (Branch) n;
+
+            int k = 0;
+
+            while (index >= b.sizes[k]) {
+                index -= b.sizes[k++];
+            }
+
+            n = b.children[k];
+        }
+
+        GlueList.Node<T> node = (GlueList.Node<T>) n;
+
+        T oldValue = node.elementData[index];
+
+        node.elementData[index] = element;
+
+        return oldValue;
+    }
+
+    @Override
+    public T remove(int index) {
+
+        rangeCheck(index);
+
+        T oldValue = delete(root, index);
+
+        while (root instanceof Branch && ((Branch) root).childCount == 1) {
+            root = ((Branch) root).children[0];
+        }
+
+        modCount++;
+        size--;
+
+        return oldValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T delete(Object n, int index) {
+
+        if (!(n instanceof Branch)) {
+
+            GlueList.Node<T> node = (GlueList.Node<T>) n;
+
+            T oldValue = node.elementData[index];
+
+            int numMoved = node.elementDataPointer - index - 1;
+
+            if (numMoved > 0) {
+                System.arraycopy(node.elementData, index + 1, node.elementData, index, numMoved);
+            }
+
+            node.elementData[--node.elementDataPointer] = null;
+
+            return oldValue;
+        }
+
+        Branch b = (Branch) n;
+
+        int k = 0;
+
+        while (index >= b.sizes[k]) {
+            index -= b.sizes[k++];
+        }
+
+        Object child = b.children[k];
+
+        T oldValue = delete(child, index);
+
+        b.sizes[k]--;
+        b.size--;
+
+        if (b.sizes[k] == 0) {
+
+            if (!(child instanceof Branch)) {
+                unlinkNode((GlueList.Node<T>) child);
+            }
+
+            b.removeChild(k);
+        } else if (!(child instanceof Branch)) {
+            mergeNodes(b, k);
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Merges an underfilled node with its neighbour in the same branch when both fit into one node.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeNodes(Branch b, int k) {
+
+        if (b.sizes[k] >= nodeCapacity >>> 2) {
+            return;
+        }
+
+        int left;
+
+        if (k > 0 && b.sizes[k - 1] + b.sizes[k] <= nodeCapacity) {
+            left = k - 1;
+        } else if (k + 1 < b.childCount && b.sizes[k] + b.sizes[k + 1] <= nodeCapacity) {
+            left = k;
+        } else {
+            return;
+        }
+
+        GlueList.Node<T> leftNode = (GlueList.Node<T>) b.children[left];
+        GlueList.Node<T> rightNode = (GlueList.Node<T>) b.children[left + 1];
+
+        System.arraycopy(rightNode.elementData, 0, leftNode.elementData, leftNode.elementDataPointer, rightNode.elementDataPointer);
+
+        leftNode.elementDataPointer += rightNode.elementDataPointer;
+
+        b.sizes[left] = leftNode.elementDataPointer;
+
+        unlinkNode(rightNode);
+
+        b.removeChild(left + 1);
+    }
+
+    private void unlinkNode(GlueList.Node<T> node) {
+
+        GlueList.Node<T> next = node.next;
+        GlueList.Node<T> prev = node.pre;
+
+        if (prev == null) {
+            first = next;
+        } else {
+            prev.next = next;
+            node.pre = null;
+        }
+
+        if (next == null) {
+            last = prev;
+        } else {
+            next.pre = prev;
+            node.next = null;
+        }
+
+        node.elementData = null;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+
+        int index = 0;
+
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.elementDataPointer; i++) {
+                if (Objects.equals(o, node.elementData[i])) {
+                    return index;
+                }
+                index++;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+
+        int index = size - 1;
+
+        for (GlueList.Node<T> node = last; node != null; node = node.pre) {
+            for (int i = node.elementDataPointer - 1; i >= 0; i--) {
+                if (Objects.equals(o, node.elementData[i])) {
+                    return index;
+                }
+                index--;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    @Override
+    public void clear() {
+
+        for (GlueList.Node<T> node = first; node != null; ) {
+
+            GlueList.Node<T> next = node.next;
+
+            node.next = null;
+            node.pre = null;
+            node.elementData = null;
+
+            node = next;
+        }
+
+        init();
+
+        modCount++;
+        size = 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+
+        Object[] objects = new Object[size];
+
+        int i = 0;
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+
+            System.arraycopy(node.elementData, 0, objects, i, node.elementDataPointer);
+
+            i += node.elementDataPointer;
+        }
+
+        return objects;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    private class Itr implements Iterator<T> {
+
+        GlueList.Node<T> node = first;
+
+        int i = 0;//inner-array index
+        int j = 0;//total index -> cursor
+
+        int lastReturn = -1;
+
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return j != size;
+        }
+
+        @Override
+        public T next() {
+
+            checkForComodification();
+
+            if (j >= size) {
+                throw new NoSuchElementException();
+            }
+
+            while (i >= node.elementDataPointer) {
+                node = node.next;
+                i = 0;
+            }
+
+            lastReturn = j++;
+
+            return node.elementData[i++];
+        }
+
+        @Override
+        public void remove() {
+
+            if (lastReturn < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            GlueTreeList.this.remove(lastReturn);
+
+            j = lastReturn;
+            lastReturn = -1;
+
+            moveTo(j);
+
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Nodes may have been split or merged by a modification, descends again to the cursor.
+         */
+        @SuppressWarnings("unchecked")
+        void moveTo(int index) {
+
+            if (index == size) {
+                node = last;
+                i = last.elementDataPointer;
+                return;
+            }
+
+            Object n = root;
+
+            while (n instanceof Branch) {
+
+                Branch b = (Branch) n;
+
+                int k = 0;
+
+                while (index >= b.sizes[k]) {
+                    index -= b.sizes[k++];
+                }
+
+                n = b.children[k];
+            }
+
+            node = (GlueList.Node<T>) n;
+            i = index;
+        }
+
+        void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private void rangeCheck(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+
+        if (index > size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int sizeOf(Object n) {
+        return (n instanceof Branch) ? ((Branch) n).size : ((GlueList.Node<T>) n).elementDataPointer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementOf(Object o) {
+        return (T) o;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object clone() {
+
+        try {
+            GlueTreeList<T> clone = (GlueTreeList<T>) super.clone();
+
+            clone.init();
+
+            clone.modCount = 0;
+            clone.size = 0;
+
+            for (GlueList.Node<T> node = first; node != null; node = node.next) {
+                for (int i = 0; i < node.elementDataPointer; i++) {
+                    clone.add(node.elementData[i]);
+                }
+            }
+
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError();
+        }
+    }
+
+    private void writeObject(ObjectOutputStream s) throws IOException {
+
+        int expectedModCount = modCount;
+
+        s.defaultWriteObject();
+
+        s.writeInt(size);
+
+        for (GlueList.Node<T> node = first; node != null; node = node.next) {
+            for (int i = 0; i < node.elementDataPointer; i++) {
+                s.writeObject(node.elementData[i]);
+            }
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+
+        s.defaultReadObject();
+
+        int size = s.readInt();
+
+        this.size = 0;
+
+        init();
+
+        for (int i = 0; i < size; i++) {
+            add((T) s.readObject());
+        }
+    }
+
+    /**
+     * Inner node of the tree, children are either Branches or GlueList.Nodes and sizes keeps their element counts.
+     */
+    static final class Branch {
+
+        Object[] children = new Object[BRANCH_CAPACITY];
+        int[] sizes = new int[BRANCH_CAPACITY];
+
+        int childCount;
+        int size;
+
+        void addChild(int k, Object child, int childSize) {
+
+            System.arraycopy(children, k, children, k + 1, childCount - k);
+            System.arraycopy(sizes, k, sizes, k + 1, childCount - k);
+
+            children[k] = child;
+            sizes[k] = childSize;
+
+            childCount++;
+        }
+
+        void removeChild(int k) {
+
+            int numMoved = childCount - k - 1;
+
+            System.arraycopy(children, k + 1, children, k, numMoved);
+            System.arraycopy(sizes, k + 1, sizes, k, numMoved);
+
+            children[--childCount] = null;
+        }
+
+        Branch split() {
+
+            Branch sibling = new Branch();
+
+            int leftCount = childCount >>> 1;
+            int rightCount = childCount - leftCount;
+
+            System.arraycopy(children, leftCount, sibling.children, 0, rightCount);
+            System.arraycopy(sizes, leftCount, sibling.sizes, 0, rightCount);
+
+            for (int i = leftCount; i < childCount; i++) {
+                sibling.size += sizes[i];
+                children[i] = null;
+            }
+
+            sibling.childCount = rightCount;
+
+            childCount = leftCount;
+            size -= sibling.size;
+
+            return sibling;
+        }
+    }
+}
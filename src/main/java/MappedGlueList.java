@@ -0,0 +1,353 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * MappedGlueList is a persistent GlueList, the nodes are memory-mapped regions of a local file and elements are
+ * encoded into them by a FixedWidthCodec. Lists larger than the heap can be appended to and read at page cache speed.
+ * <br>
+ * The file is a small header followed by the regions. A region is mapped behind the last one when it is full, so
+ * its capacity is a function of the size of list and the whole node layout is derived from the stored size when
+ * the file is opened again. Nothing is deserialized.
+ * <br>
+ * Header: magic (8 bytes), version (4), width (4), initial capacity (4), max node capacity (4), size (8).
+ * Written data reaches the disk when the operating system flushes the pages, force() and close() flush them at once.
+ * <br>
+ * close() closes the file channel but the regions stay mapped until their buffers are garbage collected, Java has no
+ * public API to unmap them. On some platforms the file can not be deleted or truncated until then.
+ * <p/>
+ * "m" number of created nodes.<br>
+ * Add O(1)<br>
+ * Access O(log m)
+ *
+ * @param <T> the type of elements held in this collection
+ * @see GlueList
+ * @see OffHeapGlueList
+ */
+public class MappedGlueList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable {
+
+    private static final long MAGIC = 0x474C55454C495354L;//"GLUELIST"
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+
+    private static final int SIZE_OFFSET = 24;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    final OffHeapGlueList.FixedWidthCodec<T> codec;
+
+    final int width;
+
+    final int initialCapacity;
+
+    final int maxNodeCapacity;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer header;
+
+    Node[] nodes;
+    int[] startingIndexes;
+    int nodeCount;
+
+    int size;
+
+    boolean closed;
+
+    /**
+     * Opens the list stored in the file or creates it when the file is empty.
+     */
+    public MappedGlueList(Path file, OffHeapGlueList.FixedWidthCodec<T> codec) throws IOException {
+        this(file, codec, DEFAULT_CAPACITY, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    /**
+     * Opens the list stored in the file or creates it when the file is empty, capacities of an existing file are read
+     * from its header.
+     */
+    public MappedGlueList(Path file, OffHeapGlueList.FixedWidthCodec<T> codec, int initialCapacity, int maxNodeCapacity) throws IOException {
+
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal Width: " + width);
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            boolean isNew = channel.size() == 0;
+
+            if (!isNew && channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a MappedGlueList file: " + file);
+            }
+
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+            if (isNew) {
+
+                checkCapacities(initialCapacity, maxNodeCapacity);
+
+                header.putLong(0, MAGIC);
+                header.putInt(8, VERSION);
+                header.putInt(12, width);
+                header.putInt(16, initialCapacity);
+                header.putInt(20, maxNodeCapacity);
+                header.putLong(SIZE_OFFSET, 0);
+            } else {
+
+                if (header.getLong(0) != MAGIC || header.getInt(8) != VERSION) {
+                    throw new IOException("Not a MappedGlueList file: " + file);
+                }
+
+                if (header.getInt(12) != width) {
+                    throw new IllegalArgumentException("Illegal Width: " + width + ", file has " + header.getInt(12));
+                }
+
+                initialCapacity = header.getInt(16);
+                maxNodeCapacity = header.getInt(20);
+
+                checkCapacities(initialCapacity, maxNodeCapacity);
+            }
+
+            this.initialCapacity = initialCapacity;
+            this.maxNodeCapacity = maxNodeCapacity;
+
+            nodes = new Node[DEFAULT_CAPACITY];
+            startingIndexes = new int[DEFAULT_CAPACITY];
+
+            linkNewLast(0);
+
+            int storedSize = (int) header.getLong(SIZE_OFFSET);
+
+            while (lastEndingIndex() < storedSize) {
+                linkNewLast(lastEndingIndex());
+            }
+
+            size = storedSize;
+        } catch (IOException | RuntimeException e) {
+
+            channel.close();
+
+            throw e;
+        }
+    }
+
+    private void checkCapacities(int initialCapacity, int maxNodeCapacity) {
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY || maxNodeCapacity > Integer.MAX_VALUE / width) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+    }
+
+    private Node last() {
+        return nodes[nodeCount - 1];
+    }
+
+    private int lastEndingIndex() {
+        return startingIndexes[nodeCount - 1] + last().capacity;
+    }
+
+    /**
+     * Maps the region of the next node, the file grows when the region is beyond its end.
+     */
+    private Node linkNewLast(int startingIndex) {
+
+        int capacity;
+        long position;
+
+        if (nodeCount == 0) {
+            capacity = min(max(initialCapacity, DEFAULT_CAPACITY), maxNodeCapacity);
+            position = HEADER_SIZE;
+        } else {
+            Node l = last();
+            capacity = GlueNodes.newNodeCapacity(startingIndex, DEFAULT_CAPACITY, maxNodeCapacity);
+            position = l.position + (long) l.capacity * width;
+        }
+
+        MappedByteBuffer buffer;
+
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) capacity * width);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            startingIndexes = Arrays.copyOf(startingIndexes, newLen);
+        }
+
+        Node node = new Node(buffer, position, capacity);
+
+        nodes[nodeCount] = node;
+        startingIndexes[nodeCount++] = startingIndex;
+
+        return node;
+    }
+
+    @Override
+    public boolean add(T element) {
+
+        ensureOpen();
+
+        if (size == lastEndingIndex()) {
+            linkNewLast(size);
+        }
+
+        codec.encode(element, last().buffer, (size - startingIndexes[nodeCount - 1]) * width);
+
+        size++;
+
+        header.putLong(SIZE_OFFSET, size);
+
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public T get(int index) {
+
+        ensureOpen();
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        return codec.decode(nodes[slot].buffer, (index - startingIndexes[slot]) * width);
+    }
+
+    @Override
+    public T set(int index, T element) {
+
+        ensureOpen();
+
+        rangeCheck(index);
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        Node node = nodes[slot];
+
+        int offset = (index - startingIndexes[slot]) * width;
+
+        T oldValue = codec.decode(node.buffer, offset);
+
+        codec.encode(element, node.buffer, offset);
+
+        return oldValue;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the changed pages of every node and the header to the disk.
+     */
+    public void force() {
+
+        ensureOpen();
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+            nodes[slot].buffer.force();
+        }
+
+        header.force();
+    }
+
+    /**
+     * Flushes and closes the file, the list can not be used anymore. The mapped regions are released when
+     * their buffers are garbage collected, not here.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        force();
+
+        closed = true;
+
+        nodes = null;
+        startingIndexes = null;
+        nodeCount = 0;
+
+        modCount++;
+        size = 0;
+
+        channel.close();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void ensureOpen() {
+
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void rangeCheck(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    static final class Node {
+
+        final MappedByteBuffer buffer;
+
+        final long position;
+        final int capacity;
+
+        Node(MappedByteBuffer buffer, long position, int capacity) {
+            this.buffer = buffer;
+            this.position = position;
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,469 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import static java.lang.Math.min;
+
+/**
+ * OffHeapGlueList keeps fixed-width records outside of the heap, every node owns a direct ByteBuffer and the
+ * elements are encoded into it by a FixedWidthCodec. The heap only holds the node headers and the node directory.
+ * <br>
+ * A node buffer never grows, a full node is split in halves when an element is inserted into it and a node which
+ * falls under a quarter full after a removal is merged into a neighbour with room. Records are shifted inside of
+ * the node buffer, nothing is copied to the heap.
+ * <br>
+ * close() only makes the list unusable, it does not release native memory. The node buffers are freed by their
+ * cleaners once they are garbage collected, like any direct ByteBuffer, so keep -XX:MaxDirectMemorySize in mind.
+ * <p/>
+ * "m" number of created nodes.<br>
+ * "n" size of node buffer, bounded by max node capacity.<br>
+ * Add O(1)<br>
+ * Add with index O(n + log m)<br>
+ * Remove O(n + log m)<br>
+ * Access O(log m)
+ *
+ * @param <T> the type of elements held in this collection
+ * @see GlueList
+ */
+public class OffHeapGlueList<T> extends AbstractList<T> implements AutoCloseable {
+
+    /**
+     * Encodes elements into exactly width() bytes of a buffer at an absolute offset, and decodes them back.
+     */
+    public interface FixedWidthCodec<T> {
+
+        int width();
+
+        void encode(T element, ByteBuffer buffer, int offset);
+
+        T decode(ByteBuffer buffer, int offset);
+    }
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    private static final int MOVE_CHUNK_SIZE = 1 << 12;
+
+    private static final ToIntFunction<Node> NODE_SIZE = node -> node.elementDataPointer;
+
+    final FixedWidthCodec<T> codec;
+
+    final int width;
+
+    final int maxNodeCapacity;
+
+    Node[] nodes;
+    int[] nodeSizeTree;
+    int nodeCount;
+
+    int size;
+
+    boolean closed;
+
+    private byte[] moveChunk;
+
+    public OffHeapGlueList(FixedWidthCodec<T> codec) {
+        this(codec, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    public OffHeapGlueList(FixedWidthCodec<T> codec, int maxNodeCapacity) {
+
+        this.codec = Objects.requireNonNull(codec);
+        this.width = codec.width();
+
+        if (width <= 0) {
+            throw new IllegalArgumentException("Illegal Width: " + width);
+        }
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY || maxNodeCapacity > Integer.MAX_VALUE / width) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.maxNodeCapacity = maxNodeCapacity;
+
+        init();
+    }
+
+    private void init() {
+
+        nodes = new Node[DEFAULT_CAPACITY];
+        nodeSizeTree = new int[DEFAULT_CAPACITY + 1];
+
+        nodes[0] = new Node(DEFAULT_CAPACITY, width);
+
+        nodeCount = 1;
+    }
+
+    @Override
+    public boolean add(T element) {
+
+        ensureOpen();
+
+        Node l = nodes[nodeCount - 1];
+
+        if (!l.isAddable()) {
+            l = linkNewLast();
+        }
+
+        codec.encode(element, l.buffer, l.elementDataPointer * width);
+
+        l.elementDataPointer++;
+
+        modCount++;
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+
+        ensureOpen();
+
+        if (index > size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        long position = findNode(index);
+
+        int slot = GlueNodes.slot(position);
+        Node node = nodes[slot];
+
+        int nodeArrIndex = index - GlueNodes.startingIndex(position);
+
+        //a node buffer never grows, a full node is split in halves and the element goes into the half which holds the index.
+        if (!node.isAddable()) {
+
+            int leftSize = node.elementDataPointer >>> 1;
+            int rightSize = node.elementDataPointer - leftSize;
+
+            Node newNode = new Node(node.capacity, width);
+
+            copyRecords(node, leftSize, newNode, 0, rightSize);
+
+            node.elementDataPointer = leftSize;
+            newNode.elementDataPointer = rightSize;
+
+            insertIntoDirectory(slot + 1, newNode);
+
+            if (nodeArrIndex > leftSize) {
+                node = newNode;
+                nodeArrIndex -= leftSize;
+                slot++;
+            }
+        }
+
+        moveRecords(node.buffer, nodeArrIndex, nodeArrIndex + 1, node.elementDataPointer - nodeArrIndex);
+
+        codec.encode(element, node.buffer, nodeArrIndex * width);
+
+        node.elementDataPointer++;
+
+        GlueNodes.addToNodeSize(nodeSizeTree, nodeCount - 1, slot, 1);
+
+        modCount++;
+        size++;
+    }
+
+    @Override
+    public T get(int index) {
+
+        ensureOpen();
+
+        rangeCheck(index);
+
+        long position = findNode(index);
+
+        return codec.decode(nodes[GlueNodes.slot(position)].buffer, (index - GlueNodes.startingIndex(position)) * width);
+    }
+
+    @Override
+    public T set(int index, T element) {
+
+        ensureOpen();
+
+        rangeCheck(index);
+
+        long position = findNode(index);
+
+        int offset = (index - GlueNodes.startingIndex(position)) * width;
+
+        ByteBuffer buffer = nodes[GlueNodes.slot(position)].buffer;
+
+        T oldValue = codec.decode(buffer, offset);
+
+        codec.encode(element, buffer, offset);
+
+        return oldValue;
+    }
+
+    @Override
+    public T remove(int index) {
+
+        ensureOpen();
+
+        rangeCheck(index);
+
+        long position = findNode(index);
+
+        int slot = GlueNodes.slot(position);
+        Node node = nodes[slot];
+
+        int nodeArrIndex = index - GlueNodes.startingIndex(position);
+
+        T oldValue = codec.decode(node.buffer, nodeArrIndex * width);
+
+        moveRecords(node.buffer, nodeArrIndex + 1, nodeArrIndex, node.elementDataPointer - nodeArrIndex - 1);
+
+        node.elementDataPointer--;
+
+        GlueNodes.addToNodeSize(nodeSizeTree, nodeCount - 1, slot, -1);
+
+        if (node.elementDataPointer == 0 && nodeCount > 1) {
+            unlinkFromDirectory(slot);
+        } else if (slot < nodeCount - 1 && node.elementDataPointer < (node.capacity >>> 2)) {
+            mergeNode(slot);
+        }
+
+        modCount++;
+        size--;
+
+        return oldValue;
+    }
+
+    /**
+     * Moves the records of an underfilled interior node into a neighbour which has room for them
+     * and unlinks the node.
+     */
+    private void mergeNode(int slot) {
+
+        Node node = nodes[slot];
+        Node pre = (slot > 0) ? nodes[slot - 1] : null;
+        Node next = nodes[slot + 1];
+
+        int len = node.elementDataPointer;
+
+        if (pre != null && pre.capacity - pre.elementDataPointer >= len) {
+
+            copyRecords(node, 0, pre, pre.elementDataPointer, len);
+
+            pre.elementDataPointer += len;
+        } else if (next.capacity - next.elementDataPointer >= len) {
+
+            moveRecords(next.buffer, 0, len, next.elementDataPointer);
+            copyRecords(node, 0, next, 0, len);
+
+            next.elementDataPointer += len;
+        } else {
+            return;
+        }
+
+        unlinkFromDirectory(slot);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+
+        ensureOpen();
+
+        init();
+
+        modCount++;
+        size = 0;
+    }
+
+    /**
+     * Makes the list unusable and drops its references to the node buffers. Native memory is not released here,
+     * it is given back by the buffer cleaners when the garbage collector finds the buffers unreachable.
+     */
+    @Override
+    public void close() {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        nodes = null;
+        nodeSizeTree = null;
+        nodeCount = 0;
+
+        moveChunk = null;
+
+        modCount++;
+        size = 0;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private void ensureOpen() {
+
+        if (closed) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private void rangeCheck(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private long findNode(int index) {
+        return GlueNodes.findNode(nodeSizeTree, nodeCount - 1, index);
+    }
+
+    int nodeStartingIndex(int slot) {
+        return GlueNodes.nodeStartingIndex(nodeSizeTree, slot);
+    }
+
+    private Node linkNewLast() {
+
+        ensureDirectoryCapacity();
+
+        Node newNode = new Node(GlueNodes.newNodeCapacity(size, DEFAULT_CAPACITY, maxNodeCapacity), width);
+
+        GlueNodes.linkToNodeSizeTree(nodeSizeTree, nodeCount, nodes[nodeCount - 1].elementDataPointer);
+
+        nodes[nodeCount++] = newNode;
+
+        return newNode;
+    }
+
+    private void insertIntoDirectory(int slot, Node node) {
+
+        ensureDirectoryCapacity();
+
+        System.arraycopy(nodes, slot, nodes, slot + 1, nodeCount - slot);
+
+        nodes[slot] = node;
+
+        nodeCount++;
+
+        GlueNodes.buildNodeSizeTree(nodeSizeTree, nodes, nodeCount - 1, NODE_SIZE);
+    }
+
+    private void unlinkFromDirectory(int slot) {
+
+        System.arraycopy(nodes, slot + 1, nodes, slot, nodeCount - slot - 1);
+
+        nodes[--nodeCount] = null;
+
+        GlueNodes.buildNodeSizeTree(nodeSizeTree, nodes, nodeCount - 1, NODE_SIZE);
+    }
+
+    private void ensureDirectoryCapacity() {
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            nodeSizeTree = Arrays.copyOf(nodeSizeTree, newLen + 1);
+        }
+    }
+
+    /**
+     * Copies count records from one node buffer into another.
+     */
+    private void copyRecords(Node src, int from, Node dst, int to, int count) {
+
+        ByteBuffer srcView = src.buffer.duplicate();
+        ByteBuffer dstView = dst.buffer.duplicate();
+
+        //through Buffer, so the class still links against the Java 8 ByteBuffer.
+        ((Buffer) srcView).limit((from + count) * width);
+        ((Buffer) srcView).position(from * width);
+
+        ((Buffer) dstView).position(to * width);
+
+        dstView.put(srcView);
+    }
+
+    /**
+     * Moves count records inside of the buffer through a small reused chunk, source and target may overlap.
+     * A move to the right goes from the end, so no chunk overwrites bytes which are not moved yet.
+     */
+    private void moveRecords(ByteBuffer buffer, int from, int to, int count) {
+
+        if (count <= 0) {
+            return;
+        }
+
+        byte[] chunk = moveChunk;
+
+        if (chunk == null) {
+            chunk = moveChunk = new byte[MOVE_CHUNK_SIZE];
+        }
+
+        ByteBuffer view = buffer.duplicate();
+
+        int len = count * width;
+        int srcOffset = from * width;
+        int dstOffset = to * width;
+
+        for (int moved = 0; moved < len; ) {
+
+            int chunkLen = min(chunk.length, len - moved);
+            int offset = (to > from) ? len - moved - chunkLen : moved;
+
+            ((Buffer) view).position(srcOffset + offset);
+            view.get(chunk, 0, chunkLen);
+
+            ((Buffer) view).position(dstOffset + offset);
+            view.put(chunk, 0, chunkLen);
+
+            moved += chunkLen;
+        }
+    }
+
+    static final class Node {
+
+        final ByteBuffer buffer;
+        final int capacity;
+
+        int elementDataPointer;
+
+        Node(int capacity, int width) {
+            this.capacity = capacity;
+            this.buffer = ByteBuffer.allocateDirect(capacity * width);
+        }
+
+        boolean isAddable() {
+            return elementDataPointer < capacity;
+        }
+    }
+}
@@ -0,0 +1,453 @@
+/**
+ * Copyright 2015 Ertuğrul Çetin
+ * <p/>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * RecordGlueList is a columnar GlueList for small records, every node holds one primitive array per field of the
+ * schema instead of one reference per record. Scans over a column read only the arrays of that column.
+ * <br>
+ * Records are split into columns by the accessors of the schema on add and they are built back by its factory on get,
+ * row(index) reads the fields without building a record.
+ * <br>
+ * Records are only appended and set in place, so a node never moves its column arrays. A Row keeps reading the
+ * same record while the list grows, and a column scan is one primitive array loop per node.
+ * <p/>
+ * "m" number of created nodes.<br>
+ * Add O(1)<br>
+ * Access O(log m)
+ *
+ * @param <R> the type of records held in this collection
+ * @see GlueList
+ */
+public class RecordGlueList<R> extends AbstractList<R> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int DEFAULT_MAX_NODE_CAPACITY = 1 << 16;
+
+    private static final char LONG = 'J';
+    private static final char INT = 'I';
+    private static final char DOUBLE = 'D';
+
+    final Schema<R> schema;
+
+    final int maxNodeCapacity;
+
+    Node[] nodes;
+    int[] startingIndexes;
+    int nodeCount;
+
+    int size;
+
+    public RecordGlueList(Schema<R> schema) {
+        this(schema, DEFAULT_MAX_NODE_CAPACITY);
+    }
+
+    public RecordGlueList(Schema<R> schema, int maxNodeCapacity) {
+
+        this.schema = Objects.requireNonNull(schema);
+
+        if (maxNodeCapacity < DEFAULT_CAPACITY) {
+            throw new IllegalArgumentException("Illegal Max Node Capacity: " + maxNodeCapacity);
+        }
+
+        this.maxNodeCapacity = maxNodeCapacity;
+
+        init();
+    }
+
+    private void init() {
+
+        nodes = new Node[DEFAULT_CAPACITY];
+        startingIndexes = new int[DEFAULT_CAPACITY];
+
+        nodes[0] = new Node(schema, DEFAULT_CAPACITY);
+
+        nodeCount = 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean add(R record) {
+
+        Node l = nodes[nodeCount - 1];
+
+        if (l.elementDataPointer == l.capacity) {
+            l = linkNewLast();
+        }
+
+        int i = l.elementDataPointer;
+        int[] positions = schema.positions;
+
+        for (int column = 0; column < positions.length; column++) {
+
+            Object accessor = schema.accessors[column];
+
+            switch (schema.types[column]) {
+                case LONG:
+                    l.longs[positions[column]][i] = ((ToLongFunction<? super R>) accessor).applyAsLong(record);
+                    break;
+                case INT:
+                    l.ints[positions[column]][i] = ((ToIntFunction<? super R>) accessor).applyAsInt(record);
+                    break;
+                default:
+                    l.doubles[positions[column]][i] = ((ToDoubleFunction<? super R>) accessor).applyAsDouble(record);
+                    break;
+            }
+        }
+
+        l.elementDataPointer++;
+
+        modCount++;
+        size++;
+
+        return true;
+    }
+
+    private Node linkNewLast() {
+
+        if (nodeCount == nodes.length) {
+
+            int newLen = nodeCount + (nodeCount >>> 1);
+
+            nodes = Arrays.copyOf(nodes, newLen);
+            startingIndexes = Arrays.copyOf(startingIndexes, newLen);
+        }
+
+        Node newNode = new Node(schema, GlueNodes.newNodeCapacity(size, DEFAULT_CAPACITY, maxNodeCapacity));
+
+        nodes[nodeCount] = newNode;
+        startingIndexes[nodeCount++] = size;
+
+        return newNode;
+    }
+
+    /**
+     * Builds the record at index with the factory of the schema.
+     */
+    @Override
+    public R get(int index) {
+        return schema.factory.apply(row(index));
+    }
+
+    /**
+     * Replaces the fields at index with the fields of the record, the old record is built before.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public R set(int index, R record) {
+
+        Row row = row(index);
+
+        R oldValue = schema.factory.apply(row);
+
+        Node node = row.node;
+        int i = row.i;
+
+        int[] positions = schema.positions;
+
+        for (int column = 0; column < positions.length; column++) {
+
+            Object accessor = schema.accessors[column];
+
+            switch (schema.types[column]) {
+                case LONG:
+                    node.longs[positions[column]][i] = ((ToLongFunction<? super R>) accessor).applyAsLong(record);
+                    break;
+                case INT:
+                    node.ints[positions[column]][i] = ((ToIntFunction<? super R>) accessor).applyAsInt(record);
+                    break;
+                default:
+                    node.doubles[positions[column]][i] = ((ToDoubleFunction<? super R>) accessor).applyAsDouble(record);
+                    break;
+            }
+        }
+
+        return oldValue;
+    }
+
+    /**
+     * Row view over the fields at index, no record is built.
+     */
+    public Row row(int index) {
+
+        if (index >= size || index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int slot = GlueNodes.searchNode(startingIndexes, nodeCount, index);
+
+        return new Row(schema, nodes[slot], index - startingIndexes[slot]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+
+        init();
+
+        modCount++;
+        size = 0;
+    }
+
+    public int columnIndex(String name) {
+
+        for (int column = 0; column < schema.names.length; column++) {
+            if (schema.names[column].equals(name)) {
+                return column;
+            }
+        }
+
+        throw new IllegalArgumentException("Illegal Column: " + name);
+    }
+
+    public LongStream longColumn(int column) {
+
+        int position = schema.position(column, LONG);
+
+        return Arrays.stream(nodes, 0, nodeCount).flatMapToLong(node -> Arrays.stream(node.longs[position], 0, node.elementDataPointer));
+    }
+
+    public IntStream intColumn(int column) {
+
+        int position = schema.position(column, INT);
+
+        return Arrays.stream(nodes, 0, nodeCount).flatMapToInt(node -> Arrays.stream(node.ints[position], 0, node.elementDataPointer));
+    }
+
+    public DoubleStream doubleColumn(int column) {
+
+        int position = schema.position(column, DOUBLE);
+
+        return Arrays.stream(nodes, 0, nodeCount).flatMapToDouble(node -> Arrays.stream(node.doubles[position], 0, node.elementDataPointer));
+    }
+
+    public void forEachLong(int column, LongConsumer action) {
+
+        int position = schema.position(column, LONG);
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            long[] values = nodes[slot].longs[position];
+            int len = nodes[slot].elementDataPointer;
+
+            for (int i = 0; i < len; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    public void forEachInt(int column, IntConsumer action) {
+
+        int position = schema.position(column, INT);
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            int[] values = nodes[slot].ints[position];
+            int len = nodes[slot].elementDataPointer;
+
+            for (int i = 0; i < len; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    public void forEachDouble(int column, DoubleConsumer action) {
+
+        int position = schema.position(column, DOUBLE);
+
+        for (int slot = 0; slot < nodeCount; slot++) {
+
+            double[] values = nodes[slot].doubles[position];
+            int len = nodes[slot].elementDataPointer;
+
+            for (int i = 0; i < len; i++) {
+                action.accept(values[i]);
+            }
+        }
+    }
+
+    public static <R> SchemaBuilder<R> schema() {
+        return new SchemaBuilder<>();
+    }
+
+    /**
+     * Columns of the records, their accessors and the factory which builds a record from a row.
+     */
+    public static final class Schema<R> {
+
+        final String[] names;
+        final char[] types;
+        final int[] positions;
+        final Object[] accessors;
+
+        final int longCount;
+        final int intCount;
+        final int doubleCount;
+
+        final Function<? super Row, ? extends R> factory;
+
+        Schema(SchemaBuilder<R> builder, Function<? super Row, ? extends R> factory) {
+
+            int count = builder.names.size();
+
+            names = builder.names.toArray(new String[count]);
+            types = new char[count];
+            positions = new int[count];
+            accessors = builder.accessors.toArray();
+
+            int longs = 0;
+            int ints = 0;
+            int doubles = 0;
+
+            for (int column = 0; column < count; column++) {
+
+                char type = builder.types.get(column);
+
+                types[column] = type;
+                positions[column] = (type == LONG) ? longs++ : (type == INT) ? ints++ : doubles++;
+            }
+
+            longCount = longs;
+            intCount = ints;
+            doubleCount = doubles;
+
+            this.factory = factory;
+        }
+
+        int position(int column, char type) {
+
+            if (column < 0 || column >= types.length) {
+                throw new ArrayIndexOutOfBoundsException(column);
+            }
+
+            if (types[column] != type) {
+                throw new IllegalArgumentException("Illegal Column Type: " + names[column]);
+            }
+
+            return positions[column];
+        }
+    }
+
+    public static final class SchemaBuilder<R> {
+
+        final List<String> names = new ArrayList<>();
+        final List<Character> types = new ArrayList<>();
+        final List<Object> accessors = new ArrayList<>();
+
+        public SchemaBuilder<R> longColumn(String name, ToLongFunction<? super R> accessor) {
+            return column(name, LONG, accessor);
+        }
+
+        public SchemaBuilder<R> intColumn(String name, ToIntFunction<? super R> accessor) {
+            return column(name, INT, accessor);
+        }
+
+        public SchemaBuilder<R> doubleColumn(String name, ToDoubleFunction<? super R> accessor) {
+            return column(name, DOUBLE, accessor);
+        }
+
+        private SchemaBuilder<R> column(String name, char type, Object accessor) {
+
+            if (names.contains(Objects.requireNonNull(name))) {
+                throw new IllegalArgumentException("Illegal Column: " + name);
+            }
+
+            names.add(name);
+            types.add(type);
+            accessors.add(Objects.requireNonNull(accessor));
+
+            return this;
+        }
+
+        public Schema<R> build(Function<? super Row, ? extends R> factory) {
+
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException("Illegal Schema: no column");
+            }
+
+            return new Schema<>(this, Objects.requireNonNull(factory));
+        }
+    }
+
+    /**
+     * Fields of one record, read from the column arrays of its node.
+     */
+    public static final class Row {
+
+        private final Schema<?> schema;
+
+        final Node node;
+        final int i;
+
+        Row(Schema<?> schema, Node node, int i) {
+            this.schema = schema;
+            this.node = node;
+            this.i = i;
+        }
+
+        public long getLong(int column) {
+            return node.longs[schema.position(column, LONG)][i];
+        }
+
+        public int getInt(int column) {
+            return node.ints[schema.position(column, INT)][i];
+        }
+
+        public double getDouble(int column) {
+            return node.doubles[schema.position(column, DOUBLE)][i];
+        }
+    }
+
+    static final class Node {
+
+        final long[][] longs;
+        final int[][] ints;
+        final double[][] doubles;
+
+        final int capacity;
+
+        int elementDataPointer;
+
+        Node(Schema<?> schema, int capacity) {
+
+            this.longs = new long[schema.longCount][capacity];
+            this.ints = new int[schema.intCount][capacity];
+            this.doubles = new double[schema.doubleCount][capacity];
+
+            this.capacity = capacity;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class BooleanGlueList_1_BitsetTest {
+
+    private static BooleanGlueList createList(BitSet bitSet, int size, int maxNodeCapacity) {
+
+        BooleanGlueList booleanGlueList = new BooleanGlueList(maxNodeCapacity);
+        for (int i = 0; i < size; i++) {
+            booleanGlueList.add(bitSet.get(i));
+        }
+
+        return booleanGlueList;
+    }
+
+    private static BitSet randomBitSet(int size, long seed) {
+
+        Random random = new Random(seed);
+
+        BitSet bitSet = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(5) == 0) {
+                bitSet.set(i);
+            }
+        }
+
+        return bitSet;
+    }
+
+    private static void assertSameBits(BitSet expected, int size, BooleanGlueList list) {
+
+        assertEquals(size, list.size());
+
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+
+        assertEquals(expected.cardinality(), list.cardinality());
+    }
+
+    @Test
+    public void test_add_get_set() {
+
+        BitSet bitSet = randomBitSet(10_000, 1);
+
+        BooleanGlueList booleanGlueList = createList(bitSet, 10_000, 512);
+
+        assertSameBits(bitSet, 10_000, booleanGlueList);
+        assertEquals(true, booleanGlueList.nodeCount > 1);
+
+        assertEquals(bitSet.get(4321), booleanGlueList.set(4321, true));
+        assertEquals(true, booleanGlueList.set(4321, false));
+        assertEquals(false, booleanGlueList.get(4321));
+    }
+
+    @Test
+    public void test_next_set_bit() {
+
+        BitSet bitSet = new BitSet();
+        bitSet.set(3);
+        bitSet.set(700);
+        bitSet.set(701);
+        bitSet.set(4999);
+
+        BooleanGlueList booleanGlueList = createList(bitSet, 5000, 128);
+
+        for (int i = 0; i <= 5000; i++) {
+            assertEquals(i == 5000 ? -1 : bitSet.nextSetBit(i), booleanGlueList.nextSetBit(i));
+        }
+
+        booleanGlueList.set(4999, false);
+
+        assertEquals(-1, booleanGlueList.nextSetBit(702));
+    }
+
+    @Test
+    public void test_and_or_xor() {
+
+        BitSet a = randomBitSet(7000, 2);
+        BitSet b = randomBitSet(5000, 3);
+
+        BitSet and = (BitSet) a.clone();
+        and.and(b);
+        BooleanGlueList andList = createList(a, 7000, 256);
+        andList.and(createList(b, 5000, 1024));
+        assertSameBits(and, 7000, andList);
+
+        BitSet or = (BitSet) a.clone();
+        or.or(b);
+        BooleanGlueList orList = createList(a, 7000, 1024);
+        orList.or(createList(b, 5000, 64));
+        assertSameBits(or, 7000, orList);
+
+        BitSet xor = (BitSet) b.clone();
+        xor.xor(a);
+        xor.clear(5000, 7000);
+        BooleanGlueList xorList = createList(b, 5000, 64);
+        xorList.xor(createList(a, 7000, 256));
+        assertSameBits(xor, 5000, xorList);
+    }
+
+    @Test
+    public void test_to_array_and_clear() {
+
+        BooleanGlueList booleanGlueList = new BooleanGlueList(new boolean[]{true, false, true});
+
+        assertEquals("[true, false, true]", booleanGlueList.toString());
+        assertEquals(true, Arrays.equals(new boolean[]{true, false, true}, booleanGlueList.toArray()));
+
+        booleanGlueList.clear();
+
+        assertEquals(true, booleanGlueList.isEmpty());
+        assertEquals(0, booleanGlueList.cardinality());
+        assertEquals(-1, booleanGlueList.nextSetBit(0));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_get_out_of_bounds() {
+        new BooleanGlueList(new boolean[]{true}).get(1);
+    }
+}
@@ -0,0 +1,107 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CompressedLongGlueList_1_CompressionTest {
+
+    private static void assertSameElements(long[] expected, CompressedLongGlueList list) {
+
+        assertEquals(expected.length, list.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], list.get(i));
+        }
+
+        assertEquals(true, Arrays.equals(expected, list.toArray()));
+
+        PrimitiveIterator.OfLong it = list.iterator();
+        for (long value : expected) {
+            assertEquals(value, it.nextLong());
+        }
+        assertEquals(false, it.hasNext());
+
+        long[] sum = new long[1];
+        list.forEach(v -> sum[0] += v);
+        assertEquals(Arrays.stream(expected).sum(), sum[0]);
+    }
+
+    @Test
+    public void test_sorted_ids() {
+
+        Random random = new Random(11);
+
+        long[] ids = new long[200_000];
+        long id = 1_000_000_000L;
+        for (int i = 0; i < ids.length; i++) {
+            id += 1 + random.nextInt(20);
+            ids[i] = id;
+        }
+
+        CompressedLongGlueList list = new CompressedLongGlueList(ids);
+
+        assertSameElements(ids, list);
+        assertEquals(true, list.blockCount > 1);
+        assertEquals(true, list.sizeInBytes() * 5 < 8L * ids.length);
+    }
+
+    @Test
+    public void test_consecutive_ids_use_zero_bits() {
+
+        CompressedLongGlueList list = new CompressedLongGlueList(16);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < list.blockCount; i++) {
+            assertEquals(0, list.blocks[i].bitWidth);
+        }
+
+        assertEquals(999L, list.get(999));
+        assertEquals(500L, list.get(500));
+    }
+
+    @Test
+    public void test_random_values() {
+
+        Random random = new Random(7);
+
+        long[] values = new long[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        values[10] = Long.MIN_VALUE;
+        values[11] = Long.MAX_VALUE;
+        values[12] = Long.MIN_VALUE;
+
+        CompressedLongGlueList list = new CompressedLongGlueList(300);
+        list.addAll(values);
+
+        assertSameElements(values, list);
+    }
+
+    @Test
+    public void test_clear_and_to_string() {
+
+        CompressedLongGlueList list = new CompressedLongGlueList(new long[]{3, 1, 2});
+
+        assertEquals("[3, 1, 2]", list.toString());
+
+        list.clear();
+
+        assertEquals(true, list.isEmpty());
+        assertEquals("[]", list.toString());
+
+        list.add(5);
+
+        assertEquals(5L, list.stream().sum());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_get_out_of_bounds() {
+        new CompressedLongGlueList(new long[]{1, 2}).get(2);
+    }
+}
@@ -0,0 +1,71 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class EnumGlueList_1_PackingTest {
+
+    enum Color {
+        RED, GREEN, BLUE, CYAN, MAGENTA
+    }
+
+    enum Flag {
+        ON, OFF
+    }
+
+    @Test
+    public void test_add_get_set() {
+
+        Random random = new Random(5);
+
+        EnumGlueList<Color> enumGlueList = new EnumGlueList<>(Color.class, 100);
+        List<Color> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            Color color = Color.values()[random.nextInt(5)];
+            enumGlueList.add(color);
+            arrayList.add(color);
+        }
+
+        assertEquals(3, enumGlueList.bits);
+        assertEquals(21, enumGlueList.perWord);
+        assertEquals(true, enumGlueList.nodeCount > 1);
+        assertEquals(true, arrayList.equals(enumGlueList));
+
+        assertEquals(arrayList.get(777), enumGlueList.set(777, Color.MAGENTA));
+        assertEquals(Color.MAGENTA, enumGlueList.get(777));
+        assertEquals(arrayList.get(776), enumGlueList.get(776));
+        assertEquals(arrayList.get(778), enumGlueList.get(778));
+    }
+
+    @Test
+    public void test_count() {
+
+        EnumGlueList<Flag> enumGlueList = new EnumGlueList<>(Flag.class);
+        for (int i = 0; i < 1000; i++) {
+            enumGlueList.add(i % 3 == 0 ? Flag.ON : Flag.OFF);
+        }
+
+        assertEquals(1, enumGlueList.bits);
+        assertEquals(334, enumGlueList.count(Flag.ON));
+        assertEquals(666, enumGlueList.count(Flag.OFF));
+
+        enumGlueList.clear();
+
+        assertEquals(0, enumGlueList.size());
+        assertEquals(0, enumGlueList.count(Flag.ON));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void test_add_null() {
+        new EnumGlueList<>(Color.class).add(null);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_get_out_of_bounds() {
+        new EnumGlueList<>(Color.class).get(0);
+    }
+}
@@ -0,0 +1,193 @@
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueDeque_1_DequeOperationsTest {
+
+    private static int nodeCount(GlueDeque<?> glueDeque) {
+
+        int count = 0;
+
+        for (GlueList.Node<?> node = glueDeque.first; node != null; node = node.next) {
+            count++;
+        }
+
+        return count;
+    }
+
+    @Test
+    public void test_random_operations() {
+
+        GlueDeque<Integer> glueDeque = new GlueDeque<>(10, 16);
+        Deque<Integer> arrayDeque = new ArrayDeque<>();
+
+        Random random = new Random(9);
+
+        for (int i = 0; i < 200_000; i++) {
+
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    glueDeque.addFirst(i);
+                    arrayDeque.addFirst(i);
+                    break;
+                case 2:
+                case 3:
+                    glueDeque.addLast(i);
+                    arrayDeque.addLast(i);
+                    break;
+                case 4:
+                    assertEquals(arrayDeque.pollFirst(), glueDeque.pollFirst());
+                    break;
+                case 5:
+                    assertEquals(arrayDeque.pollLast(), glueDeque.pollLast());
+                    break;
+                case 6:
+                    assertEquals(arrayDeque.peekFirst(), glueDeque.peekFirst());
+                    assertEquals(arrayDeque.peekLast(), glueDeque.peekLast());
+                    break;
+                default:
+                    Integer o = random.nextInt(i + 1);
+                    assertEquals(arrayDeque.removeLastOccurrence(o), glueDeque.removeLastOccurrence(o));
+                    break;
+            }
+
+            assertEquals(arrayDeque.size(), glueDeque.size());
+        }
+
+        assertEquals(new ArrayList<>(arrayDeque), new ArrayList<>(glueDeque));
+
+        ArrayList<Integer> descending = new ArrayList<>();
+
+        for (Iterator<Integer> it = glueDeque.descendingIterator(); it.hasNext(); ) {
+            descending.add(it.next());
+        }
+
+        ArrayList<Integer> expected = new ArrayList<>();
+
+        for (Iterator<Integer> it = arrayDeque.descendingIterator(); it.hasNext(); ) {
+            expected.add(it.next());
+        }
+
+        assertEquals(expected, descending);
+    }
+
+    @Test
+    public void test_work_queue_drops_drained_nodes() {
+
+        GlueDeque<Integer> glueDeque = new GlueDeque<>(10, 16);
+
+        for (int i = 0; i < 100; i++) {
+            glueDeque.offer(i);
+        }
+
+        for (int i = 100; i < 1_000_000; i++) {
+
+            assertEquals(i - 100, (int) glueDeque.poll());
+
+            glueDeque.offer(i);
+        }
+
+        assertEquals(100, glueDeque.size());
+        assertEquals(true, nodeCount(glueDeque) <= 100 / 10 + 2);
+    }
+
+    @Test
+    public void test_stack() {
+
+        GlueDeque<String> glueDeque = new GlueDeque<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueDeque.push("a" + i);
+        }
+
+        for (int i = 999; i >= 0; i--) {
+            assertEquals("a" + i, glueDeque.pop());
+        }
+
+        assertEquals(true, glueDeque.isEmpty());
+        assertEquals(1, nodeCount(glueDeque));
+        assertEquals(null, glueDeque.poll());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void test_remove_first_of_empty() {
+        new GlueDeque<String>().removeFirst();
+    }
+
+    @Test
+    public void test_iterator_remove() {
+
+        GlueDeque<Integer> glueDeque = new GlueDeque<>(10, 16);
+        Deque<Integer> arrayDeque = new ArrayDeque<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueDeque.addFirst(i);
+            arrayDeque.addFirst(i);
+            glueDeque.addLast(-i);
+            arrayDeque.addLast(-i);
+        }
+
+        Iterator<Integer> glueIterator = glueDeque.iterator();
+        Iterator<Integer> arrayIterator = arrayDeque.iterator();
+
+        while (arrayIterator.hasNext()) {
+
+            Integer value = arrayIterator.next();
+
+            assertEquals(value, glueIterator.next());
+
+            if (value % 3 != 0) {
+                glueIterator.remove();
+                arrayIterator.remove();
+            }
+        }
+
+        assertEquals(false, glueIterator.hasNext());
+        assertEquals(new ArrayList<>(arrayDeque), new ArrayList<>(glueDeque));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void test_clone_and_serialization() throws Exception {
+
+        GlueDeque<Integer> glueDeque = new GlueDeque<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueDeque.addFirst(i);
+        }
+
+        GlueDeque<Integer> clone = (GlueDeque<Integer>) glueDeque.clone();
+
+        assertEquals(new ArrayList<>(glueDeque), new ArrayList<>(clone));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(glueDeque);
+        }
+
+        GlueDeque<Integer> read;
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (GlueDeque<Integer>) in.readObject();
+        }
+
+        assertEquals(new ArrayList<>(glueDeque), new ArrayList<>(read));
+
+        read.addFirst(-1);
+
+        assertEquals(-1, (int) read.getFirst());
+    }
+}
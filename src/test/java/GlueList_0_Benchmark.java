@@ -145,4 +145,55 @@ public class GlueList_0_Benchmark {
         e = System.currentTimeMillis();
         System.out.println("GlueList: " + (e - s));
     }
+
+    @Test
+    public void test_10_indexed_get_1m_array_list() {
+
+        List<Integer> arrayList = new ArrayList<>();
+        for (int i = 0; i < dataCount1m; i++) {
+            arrayList.add(i);
+        }
+
+        long s, e, sum = 0;
+
+        s = System.currentTimeMillis();
+        for (int i = 0; i < dataCount1m; i++) {
+            sum += arrayList.get(i);
+        }
+        e = System.currentTimeMillis();
+        System.out.println("ArrayList indexed get: " + (e - s) + " (" + sum + ")");
+    }
+
+    @Test
+    public void test_11_indexed_get_1m_glue_list() {
+
+        List<Integer> glueList = new GlueList<>(2);
+        for (int i = 0; i < dataCount1m; i++) {
+            glueList.add(i);
+        }
+
+        long s, e, sum = 0;
+
+        s = System.currentTimeMillis();
+        for (int i = 0; i < dataCount1m; i++) {
+            sum += glueList.get(i);
+        }
+        e = System.currentTimeMillis();
+        System.out.println("GlueList indexed get: " + (e - s) + " (" + sum + ")");
+    }
+
+    @Test
+    public void test_12_add_10m_int_glue_list() {
+
+        IntGlueList intGlueList = new IntGlueList();
+
+        long s, e;
+
+        s = System.currentTimeMillis();
+        for (int i = 0; i < dataCount10m; i++) {
+            intGlueList.add(i);
+        }
+        e = System.currentTimeMillis();
+        System.out.println("IntGlueList: " + (e - s));
+    }
 }
@@ -15,10 +15,10 @@ public class GlueList_10_RemoveAllTest {
             glueList.add("" + i);
 
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         assertEquals(100, glueList.size());
 
@@ -27,7 +27,7 @@ public class GlueList_10_RemoveAllTest {
         assertEquals(0, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -48,7 +48,7 @@ public class GlueList_10_RemoveAllTest {
         assertEquals(false, result);
         assertEquals(3, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -61,7 +61,7 @@ public class GlueList_10_RemoveAllTest {
         glueList.add("" + 8);
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         GlueList<String> tempList = new GlueList<>();
         tempList.add("" + 4);
@@ -76,6 +76,6 @@ public class GlueList_10_RemoveAllTest {
         assertEquals(3, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -21,7 +21,7 @@ public class GlueList_11_RetainAllTest {
 
         assertEquals(3, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -42,7 +42,7 @@ public class GlueList_11_RetainAllTest {
 
         assertEquals(4, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -61,13 +61,13 @@ public class GlueList_11_RetainAllTest {
         glueList.retainAll(tempList);
         assertEquals(20, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.add("X");
 
         assertEquals(21, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -87,7 +87,7 @@ public class GlueList_11_RetainAllTest {
 
         assertEquals(12, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         for (int i = 0; i < 8; i++) {
             glueList.add("X");
@@ -95,6 +95,6 @@ public class GlueList_11_RetainAllTest {
 
         assertEquals(20, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
@@ -18,7 +18,7 @@ public class GlueList_12_ClearTest {
         assertEquals(20, glueList.initialCapacity);
         assertEquals(true, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -36,7 +36,7 @@ public class GlueList_12_ClearTest {
         assertEquals(30, glueList.initialCapacity);
         assertEquals(true, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -54,6 +54,6 @@ public class GlueList_12_ClearTest {
         assertEquals(10, glueList.initialCapacity);
         assertEquals(true, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
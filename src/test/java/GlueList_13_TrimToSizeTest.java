@@ -18,7 +18,7 @@ public class GlueList_13_TrimToSizeTest {
         assertEquals(15, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -35,7 +35,7 @@ public class GlueList_13_TrimToSizeTest {
         assertEquals(14, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -53,7 +53,7 @@ public class GlueList_13_TrimToSizeTest {
         assertEquals(18, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -70,7 +70,7 @@ public class GlueList_13_TrimToSizeTest {
         assertEquals(19, glueList.size());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -92,7 +92,7 @@ public class GlueList_13_TrimToSizeTest {
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -106,13 +106,13 @@ public class GlueList_13_TrimToSizeTest {
 
         assertEquals(1_000, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.trimToSize();
 
         assertEquals(1_000, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         for (int i = 1_000; i < 3_000; i++) {
             glueList.add("" + i);
@@ -121,20 +121,20 @@ public class GlueList_13_TrimToSizeTest {
 
         assertEquals(3_000, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         for (int i = 0; i < 500; i++) {
             glueList.remove(i);
         }
         assertEquals(2_500, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.trimToSize();
 
         assertEquals(2_500, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         for (int i = 0; i < 500; i++) {
             glueList.add("" + i);
@@ -144,12 +144,12 @@ public class GlueList_13_TrimToSizeTest {
 
         assertEquals(3_000, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         assertEquals(3_000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -162,26 +162,26 @@ public class GlueList_13_TrimToSizeTest {
         }
         assertEquals(14, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.trimToSize();
         assertEquals(14, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("13");
         assertEquals(13, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         for (int i = 0; i < 8; i++) {
             glueList.add("" + (13 + i));
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(21, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
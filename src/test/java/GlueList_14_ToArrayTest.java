@@ -19,7 +19,7 @@ public class GlueList_14_ToArrayTest {
 
         assertEquals(0, objectArr.length);
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -35,7 +35,7 @@ public class GlueList_14_ToArrayTest {
 
         assertEquals(1, objectArr.length);
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -53,6 +53,6 @@ public class GlueList_14_ToArrayTest {
 
         assertEquals(15, objectArr.length);
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -19,7 +19,7 @@ public class GlueList_16_CloneTest {
         assertEquals(true, glueList.equals(clonedList));
         assertEquals(true, clonedList.getClass() == glueList.getClass());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @SuppressWarnings("unchecked")
@@ -38,7 +38,7 @@ public class GlueList_16_CloneTest {
         assertEquals(true, glueList.equals(clonedList));
         assertEquals(true, clonedList.getClass() == glueList.getClass());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
 
@@ -60,6 +60,6 @@ public class GlueList_16_CloneTest {
         assertEquals(true, glueList.equals(clonedList));
         assertEquals(true, clonedList.getClass() == glueList.getClass());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -19,7 +19,7 @@ public class GlueList_18_Iterator {
 
         assertEquals(true, iterator.hasNext());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -38,14 +38,14 @@ public class GlueList_18_Iterator {
             assertEquals("" + i, iterator.next());
 
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(false, iterator.hasNext());
 
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test(expected = NoSuchElementException.class)
@@ -86,7 +86,7 @@ public class GlueList_18_Iterator {
         }
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         Iterator<String> iterator = glueList.iterator();
 
@@ -99,12 +99,12 @@ public class GlueList_18_Iterator {
             assertEquals(--j, glueList.size());
 
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(0, glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -116,7 +116,7 @@ public class GlueList_18_Iterator {
         }
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         Iterator<String> iterator = glueList.iterator();
         iterator.next();//0
@@ -125,14 +125,14 @@ public class GlueList_18_Iterator {
         iterator.remove();//2 - 0
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         assertEquals("3", iterator.next());
         iterator.remove();
         assertEquals("4", iterator.next());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -154,14 +154,14 @@ public class GlueList_18_Iterator {
         iterator.remove();//5
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         assertEquals("6", iterator.next());
         assertEquals("7", iterator.next());
         assertEquals("8", iterator.next());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -182,7 +182,7 @@ public class GlueList_18_Iterator {
         assertEquals(false, iterator.hasNext());
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -206,12 +206,12 @@ public class GlueList_18_Iterator {
             assertEquals(--size, glueList.size());
 
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(0, glueList.size());
         assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -16,7 +16,7 @@ public class GlueList_1_ConstructorTest {
         assertEquals(true, glueList.first == glueList.last);
         assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -27,7 +27,7 @@ public class GlueList_1_ConstructorTest {
         assertEquals(0, glueList.size());
         assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -38,7 +38,7 @@ public class GlueList_1_ConstructorTest {
         assertEquals(0, glueList.size());
         assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -69,7 +69,7 @@ public class GlueList_1_ConstructorTest {
         assertEquals(dataList.size(), glueList.size());
         assertEquals(true, glueList.equals(dataList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -90,6 +90,6 @@ public class GlueList_1_ConstructorTest {
 
         assertNotEquals(dataList.size(), glueList.size());
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -16,7 +16,7 @@ public class GlueList_20_SubListTest {
 
         assertEquals(true, glueList.equals(tempList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(tempList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(tempList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(tempList));
     }
 
     @Test
@@ -31,7 +31,7 @@ public class GlueList_20_SubListTest {
 
         assertEquals(true, glueList.equals(tempList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(tempList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(tempList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(tempList));
     }
 
     @Test
@@ -52,6 +52,6 @@ public class GlueList_20_SubListTest {
 
         assertEquals(true, temp2.equals(tempList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(tempList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(tempList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(tempList));
     }
 }
@@ -0,0 +1,99 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_21_NodeDirectoryTest {
+
+    @Test
+    public void test_directory_after_add() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+
+        for (int i = 0; i < 10_000; i++) {
+            glueList.add("" + i);
+        }
+
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("" + i, glueList.get(i));
+        }
+    }
+
+    @Test
+    public void test_directory_after_add_with_index() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2_000; i++) {
+
+            int index = random.nextInt(glueList.size() + 1);
+
+            glueList.add(index, "" + i);
+            arrayList.add(index, "" + i);
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+    }
+
+    @Test
+    public void test_directory_after_remove() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            glueList.add("" + i);
+            arrayList.add("" + i);
+        }
+
+        Random random = new Random(11);
+
+        while (glueList.size() > 0) {
+
+            int index = random.nextInt(glueList.size());
+
+            assertEquals(arrayList.remove(index), glueList.remove(index));
+            assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        }
+
+        assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
+    }
+
+    @Test
+    public void test_directory_set_and_list_iterator() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals("" + i, glueList.set(i, "x" + i));
+        }
+
+        for (int i = 0; i < 1_000; i += 97) {
+
+            ListIterator<String> listIterator = glueList.listIterator(i);
+
+            assertEquals("x" + i, listIterator.next());
+        }
+
+        @SuppressWarnings("unchecked")
+        GlueList<String> clone = (GlueList<String>) glueList.clone();
+
+        assertEquals(glueList, clone);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(clone));
+    }
+}
@@ -0,0 +1,145 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_22_FingerTest {
+
+    @Test
+    public void test_finger_forward_and_backward_get() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        for (int i = 0; i < 100_000; i++) {
+            glueList.add(i);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, (int) glueList.get(i));
+        }
+
+        for (int i = 100_000 - 1; i >= 0; i--) {
+            assertEquals(i, (int) glueList.get(i));
+        }
+    }
+
+    @Test
+    public void test_finger_clustered_get() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        for (int i = 0; i < 10_000; i++) {
+            glueList.add(i);
+        }
+
+        Random random = new Random(3);
+
+        int index = 5_000;
+        for (int i = 0; i < 10_000; i++) {
+
+            index = Math.max(0, Math.min(9_999, index + random.nextInt(201) - 100));
+
+            assertEquals(index, (int) glueList.get(index));
+        }
+    }
+
+    @Test
+    public void test_finger_after_modifications() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        Random random = new Random(5);
+
+        for (int i = 0; i < 2_000; i++) {
+
+            int index = random.nextInt(glueList.size());
+
+            assertEquals(arrayList.get(index), glueList.get(index));
+
+            if (i % 3 == 0) {
+                assertEquals(arrayList.remove(index), glueList.remove(index));
+            } else {
+                glueList.add(index, -i);
+                arrayList.add(index, -i);
+            }
+
+            for (int j = 0; j < glueList.size(); j += 7) {
+                assertEquals(arrayList.get(j), glueList.get(j));
+            }
+        }
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_finger_after_clone_and_clear() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+        }
+
+        assertEquals(999, (int) glueList.get(999));
+
+        @SuppressWarnings("unchecked")
+        GlueList<Integer> clone = (GlueList<Integer>) glueList.clone();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, (int) clone.get(i));
+        }
+
+        glueList.clear();
+        glueList.add(7);
+
+        assertEquals(7, (int) glueList.get(0));
+    }
+
+    @Test
+    public void test_finger_concurrent_get() throws InterruptedException {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        for (int i = 0; i < 100_000; i++) {
+            glueList.add(i);
+        }
+
+        AtomicInteger wrongResults = new AtomicInteger();
+
+        Thread[] threads = new Thread[8];
+
+        for (int t = 0; t < threads.length; t++) {
+
+            Random random = new Random(t);
+
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+
+                    int index = random.nextInt(100_000);
+
+                    try {
+                        if (glueList.get(index) != index) {
+                            wrongResults.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        wrongResults.incrementAndGet();
+                    }
+                }
+            });
+
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, wrongResults.get());
+    }
+}
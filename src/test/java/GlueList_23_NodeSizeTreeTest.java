@@ -0,0 +1,72 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_23_NodeSizeTreeTest {
+
+    @Test
+    public void test_node_size_tree_after_mixed_operations() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(13);
+
+        for (int i = 0; i < 20_000; i++) {
+
+            int operation = random.nextInt(4);
+
+            if (operation == 0 && !arrayList.isEmpty()) {
+
+                int index = random.nextInt(arrayList.size());
+
+                assertEquals(arrayList.remove(index), glueList.remove(index));
+            } else if (operation == 1) {
+
+                int index = random.nextInt(arrayList.size() + 1);
+
+                arrayList.add(index, i);
+                glueList.add(index, i);
+            } else {
+
+                arrayList.add(i);
+                glueList.add(i);
+            }
+
+            if (i % 100 == 0) {
+                assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+                assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+            }
+        }
+
+        assertEquals(arrayList, glueList);
+
+        for (int i = 0; i < arrayList.size(); i++) {
+            assertEquals(arrayList.get(i), glueList.get(i));
+        }
+    }
+
+    @Test
+    public void test_node_size_tree_after_draining_nodes() {
+
+        GlueList<Integer> glueList = new GlueList<>(2);
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+        }
+
+        while (glueList.size() > 1) {
+
+            glueList.remove(glueList.size() / 2);
+
+            assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+            assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        }
+
+        assertEquals(0, (int) glueList.get(0));
+    }
+}
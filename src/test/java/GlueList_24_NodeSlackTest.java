@@ -0,0 +1,70 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_24_NodeSlackTest {
+
+    @Test
+    public void test_add_with_index_uses_slack() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+        }
+
+        GlueList.Node<?> node = glueList.first;
+
+        glueList.add(1, "a");
+
+        Object[] elementData = node.elementData;
+
+        assertEquals(true, node.elementDataPointer < elementData.length);
+
+        int slack = elementData.length - node.elementDataPointer;
+
+        for (int i = 0; i < slack; i++) {
+            glueList.add(1, "b");
+        }
+
+        assertEquals(true, elementData == node.elementData);
+        assertEquals(1_001 + slack, glueList.size());
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+    }
+
+    @Test
+    public void test_add_with_index_to_interior_nodes() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+            arrayList.add("" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+
+            int index = (i * 31) % glueList.size();
+
+            glueList.add(index, "x" + i);
+            arrayList.add(index, "x" + i);
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        glueList.trimToSize();
+
+        for (GlueList.Node<?> node = glueList.first; node != glueList.last; node = node.next) {
+            assertEquals(node.elementDataPointer, node.elementData.length);
+        }
+
+        assertEquals(arrayList, glueList);
+    }
+}
@@ -0,0 +1,59 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_25_InPlaceRemoveTest {
+
+    @Test
+    public void test_remove_from_interior_node_keeps_array() {
+
+        GlueList<String> glueList = new GlueList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+        }
+
+        GlueList.Node<?> node = glueList.first.next;
+
+        Object[] elementData = node.elementData;
+        int elementDataPointer = node.elementDataPointer;
+
+        glueList.remove(12);
+
+        assertEquals(true, elementData == node.elementData);
+        assertEquals(elementDataPointer - 1, node.elementDataPointer);
+        assertEquals(null, node.elementData[node.elementDataPointer]);
+        assertEquals(999, glueList.size());
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+    }
+
+    @Test
+    public void test_remove_and_add_with_index_reuse_slack() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+            arrayList.add("" + i);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+
+            int index = (i * 37) % glueList.size();
+
+            assertEquals(arrayList.remove(index), glueList.remove(index));
+
+            glueList.add(index / 2, "x" + i);
+            arrayList.add(index / 2, "x" + i);
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+    }
+}
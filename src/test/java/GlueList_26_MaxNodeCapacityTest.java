@@ -0,0 +1,104 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_26_MaxNodeCapacityTest {
+
+    private static <T> boolean isNodesBounded(GlueList<T> glueList, int maxNodeCapacity) {
+
+        for (GlueList.Node<T> node = glueList.first; node != null; node = node.next) {
+            if (node.elementData.length > maxNodeCapacity) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_illegal_max_node_capacity() {
+        new GlueList<String>(10, 9);
+    }
+
+    @Test
+    public void test_add_is_bounded() {
+
+        GlueList<Integer> glueList = new GlueList<>(100, 16);
+
+        for (int i = 0; i < 10_000; i++) {
+            glueList.add(i);
+        }
+
+        assertEquals(10_000, glueList.size());
+        assertEquals(true, isNodesBounded(glueList, 16));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, (int) glueList.get(i));
+        }
+    }
+
+    @Test
+    public void test_add_with_index_splits_full_nodes() {
+
+        GlueList<Integer> glueList = new GlueList<>(2, 10);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(19);
+
+        for (int i = 0; i < 5_000; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, i);
+            arrayList.add(index, i);
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, isNodesBounded(glueList, 10));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        for (int i = 0; i < 2_500; i++) {
+
+            int index = random.nextInt(arrayList.size());
+
+            assertEquals(arrayList.remove(index), glueList.remove(index));
+        }
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_add_all_is_bounded() {
+
+        List<Integer> arrayList = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            arrayList.add(i);
+        }
+
+        GlueList<Integer> glueList = new GlueList<>(2, 32);
+
+        glueList.addAll(arrayList);
+        glueList.addAll(arrayList);
+
+        assertEquals(2_000, glueList.size());
+        assertEquals(true, isNodesBounded(glueList, 32));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        for (int i = 0; i < 2_000; i++) {
+            assertEquals(i % 1_000, (int) glueList.get(i));
+        }
+
+        glueList.clear();
+
+        assertEquals(true, isNodesBounded(glueList, 32));
+    }
+}
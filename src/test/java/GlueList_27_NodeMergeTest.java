@@ -0,0 +1,179 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_27_NodeMergeTest {
+
+    @Test
+    public void test_random_remove_merges_underfilled_nodes() {
+
+        GlueList<Integer> glueList = new GlueList<>(100, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        Random random = new Random(27);
+
+        while (glueList.size() > 1_000) {
+
+            int index = random.nextInt(glueList.size());
+
+            assertEquals(arrayList.remove(index), glueList.remove(index));
+        }
+
+        assertEquals(true, glueList.nodeCount <= glueList.size() / 4 + 2);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_churn_keeps_node_count_bounded() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(270);
+
+        for (int i = 0; i < 2_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        for (int i = 0; i < 50_000; i++) {
+
+            int index = random.nextInt(arrayList.size());
+
+            if (random.nextBoolean()) {
+                glueList.add(index, i);
+                arrayList.add(index, i);
+            } else {
+                assertEquals(arrayList.remove(index), glueList.remove(index));
+            }
+        }
+
+        assertEquals(true, glueList.nodeCount <= glueList.size() / 4 + 2);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_compact() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(2700);
+
+        for (int i = 0; i < 5_000; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, i);
+            arrayList.add(index, i);
+        }
+
+        glueList.compact();
+
+        assertEquals((5_000 + 15) / 16, glueList.nodeCount);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+        assertEquals(arrayList, glueList);
+
+        glueList.add(2_500, -1);
+        arrayList.add(2_500, -1);
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_compact_empty() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        glueList.compact();
+
+        assertEquals(0, glueList.size());
+        assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
+    }
+
+    @Test
+    public void test_iterator_remove_across_merges() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        Iterator<Integer> glueIterator = glueList.iterator();
+        Iterator<Integer> arrayIterator = arrayList.iterator();
+
+        while (arrayIterator.hasNext()) {
+
+            assertEquals(arrayIterator.next(), glueIterator.next());
+
+            if (arrayList.size() % 3 != 0) {
+                glueIterator.remove();
+                arrayIterator.remove();
+            }
+        }
+
+        assertEquals(false, glueIterator.hasNext());
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_list_iterator_add_and_remove_across_splits() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        ListIterator<Integer> glueIterator = glueList.listIterator(50);
+        ListIterator<Integer> arrayIterator = arrayList.listIterator(50);
+
+        Random random = new Random(27_000);
+
+        for (int i = 0; i < 5_000; i++) {
+
+            int op = random.nextInt(4);
+
+            if (op == 0) {
+                glueIterator.add(-i);
+                arrayIterator.add(-i);
+            } else if (op == 1 && arrayIterator.hasNext()) {
+                assertEquals(arrayIterator.next(), glueIterator.next());
+                glueIterator.remove();
+                arrayIterator.remove();
+            } else if (op == 2 && arrayIterator.hasPrevious()) {
+                assertEquals(arrayIterator.previous(), glueIterator.previous());
+            } else if (arrayIterator.hasNext()) {
+                assertEquals(arrayIterator.next(), glueIterator.next());
+            }
+
+            assertEquals(arrayIterator.nextIndex(), glueIterator.nextIndex());
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+    }
+}
@@ -0,0 +1,102 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_28_AddAllWithIndexTest {
+
+    private static List<Integer> batch(int from, int len) {
+
+        List<Integer> list = new ArrayList<>(len);
+
+        for (int i = 0; i < len; i++) {
+            list.add(from + i);
+        }
+
+        return list;
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_illegal_index() {
+        new GlueList<Integer>().addAll(1, batch(0, 3));
+    }
+
+    @Test
+    public void test_empty_collection() {
+
+        GlueList<Integer> glueList = new GlueList<>(batch(0, 10));
+
+        assertEquals(false, glueList.addAll(5, Collections.<Integer>emptyList()));
+        assertEquals(10, glueList.size());
+    }
+
+    @Test
+    public void test_add_all_at_head_middle_and_tail() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        int[] indexes = {0, 500, 1_000, 1, 17, 1_999};
+
+        for (int k = 0; k < indexes.length; k++) {
+
+            List<Integer> batch = batch(-(k + 1) * 10_000, 1_000);
+
+            assertEquals(true, glueList.addAll(indexes[k], batch));
+            arrayList.addAll(indexes[k], batch);
+
+            assertEquals(arrayList, glueList);
+            assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+            assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+        }
+    }
+
+    @Test
+    public void test_add_all_is_bounded_by_max_node_capacity() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(28);
+
+        for (int i = 0; i < 500; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            List<Integer> batch = batch(i * 1_000, random.nextInt(40));
+
+            glueList.addAll(index, batch);
+            arrayList.addAll(index, batch);
+
+            if (random.nextBoolean() && !arrayList.isEmpty()) {
+
+                int removeIndex = random.nextInt(arrayList.size());
+
+                assertEquals(arrayList.remove(removeIndex), glueList.remove(removeIndex));
+            }
+        }
+
+        for (GlueList.Node<?> node = glueList.first; node != null; node = node.next) {
+            assertEquals(true, node.elementData.length <= 16);
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        for (int i = 0; i < arrayList.size(); i++) {
+            assertEquals(arrayList.get(i), glueList.get(i));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_29_RemoveRangeTest {
+
+    @Test
+    public void test_sub_list_clear_inside_one_node() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        glueList.subList(2, 5).clear();
+        arrayList.subList(2, 5).clear();
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+    }
+
+    @Test
+    public void test_sub_list_clear_whole_list() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+        }
+
+        glueList.subList(0, 1_000).clear();
+
+        assertEquals(0, glueList.size());
+        assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
+    }
+
+    @Test
+    public void test_truncate_windows() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            glueList.add(i);
+            arrayList.add(i);
+        }
+
+        while (glueList.size() > 10_000) {
+
+            glueList.subList(0, 9_000).clear();
+            arrayList.subList(0, 9_000).clear();
+
+            assertEquals(arrayList.get(0), glueList.get(0));
+        }
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+    }
+
+    @Test
+    public void test_random_ranges() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(29);
+
+        for (int round = 0; round < 200; round++) {
+
+            for (int i = 0; i < 300; i++) {
+
+                int index = random.nextInt(arrayList.size() + 1);
+
+                glueList.add(index, i);
+                arrayList.add(index, i);
+            }
+
+            int from = random.nextInt(arrayList.size());
+            int to = from + random.nextInt(arrayList.size() - from + 1);
+
+            glueList.subList(from, to).clear();
+            arrayList.subList(from, to).clear();
+
+            assertEquals(arrayList, glueList);
+            assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+            assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+        }
+    }
+}
@@ -23,7 +23,7 @@ public class GlueList_2_AddTest {
         assertEquals(10, glueList.size());
         assertEquals(true, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -34,13 +34,13 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 100; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(100, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -51,13 +51,13 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 1000; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(1000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -68,13 +68,13 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 10_000; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
         assertEquals(10_000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -85,14 +85,14 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 100_000; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
 
         assertEquals(100_000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -103,14 +103,14 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 1_000_000; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
 
         assertEquals(1_000_000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -121,14 +121,14 @@ public class GlueList_2_AddTest {
         for (int i = 0; i < 10_000_000; i++) {
             glueList.add("" + i);
             assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-            assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+            assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
         }
 
 
         assertEquals(10_000_000, glueList.size());
         assertEquals(false, TestUtil.isFirstAndLastNodesAreEqual(glueList));
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 
     @Test
@@ -143,43 +143,43 @@ public class GlueList_2_AddTest {
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("5");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("1");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("2");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("3");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
         glueList.remove("4");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
 
 
         glueList.add("X");
 
 
         assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
-        assertEquals(true, TestUtil.isNodesElementDataPointerSameWithNodeArrayLength(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_30_RemoveIfTest {
+
+    @Test
+    public void test_remove_if() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(30);
+
+        for (int i = 0; i < 10_000; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, i);
+            arrayList.add(index, i);
+        }
+
+        assertEquals(true, glueList.removeIf(e -> e % 3 == 0));
+        arrayList.removeIf(e -> e % 3 == 0);
+
+        assertEquals(false, glueList.removeIf(e -> e % 3 == 0));
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        glueList.add(5_000, -1);
+        arrayList.add(5_000, -1);
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_remove_if_all() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add(i);
+        }
+
+        assertEquals(true, glueList.removeIf(e -> true));
+
+        assertEquals(0, glueList.size());
+        assertEquals(true, TestUtil.isItCorrectAfterAllDataDeleted(glueList));
+
+        glueList.add(1);
+
+        assertEquals(1, (int) glueList.get(0));
+    }
+
+    @Test
+    public void test_remove_if_keeps_list_when_predicate_throws() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        for (int i = 0; i < 100; i++) {
+            glueList.add(i);
+        }
+
+        try {
+            glueList.removeIf(e -> {
+                if (e == 50) {
+                    throw new IllegalStateException();
+                }
+                return e % 2 == 0;
+            });
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertEquals(100, glueList.size());
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+    }
+
+    @Test
+    public void test_remove_all_removes_every_occurrence() {
+
+        GlueList<String> glueList = new GlueList<>();
+        List<String> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + (i % 10));
+            arrayList.add("" + (i % 10));
+        }
+
+        List<String> small = Arrays.asList("1", "3");
+
+        glueList.removeAll(small);
+        arrayList.removeAll(small);
+
+        assertEquals(arrayList, glueList);
+
+        List<String> big = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            big.add("" + (i * 2));
+        }
+
+        glueList.removeAll(big);
+        arrayList.removeAll(big);
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+    }
+
+    @Test
+    public void test_retain_all() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        List<Integer> retained = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+
+            glueList.add(i);
+            arrayList.add(i);
+
+            if (i % 7 == 0) {
+                retained.add(i);
+            }
+        }
+
+        assertEquals(true, glueList.retainAll(retained));
+        arrayList.retainAll(retained);
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+
+        assertEquals(true, glueList.retainAll(Collections.emptyList()));
+        assertEquals(0, glueList.size());
+    }
+}
@@ -0,0 +1,147 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class GlueList_31_SortTest {
+
+    @Test
+    public void test_sort_natural_order() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(31);
+
+        for (int i = 0; i < 10_000; i++) {
+
+            int value = random.nextInt(1_000);
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, value);
+            arrayList.add(index, value);
+        }
+
+        glueList.sort(null);
+        arrayList.sort(null);
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+
+        glueList.add(5_000, -1);
+        arrayList.add(5_000, -1);
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_sort_is_stable() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        Random random = new Random(310);
+
+        for (int i = 0; i < 5_000; i++) {
+
+            String value = random.nextInt(50) + ":" + i;
+
+            glueList.add(value);
+            arrayList.add(value);
+        }
+
+        Comparator<String> byPrefix = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+
+        glueList.sort(byPrefix);
+        arrayList.sort(byPrefix);
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_sort_small_and_empty() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        glueList.sort(null);
+
+        assertEquals(0, glueList.size());
+
+        glueList.add(3);
+        glueList.add(1);
+        glueList.add(2);
+
+        glueList.sort(Comparator.reverseOrder());
+
+        assertEquals(3, (int) glueList.get(0));
+        assertEquals(1, (int) glueList.get(2));
+    }
+
+    @Test
+    public void test_sort_with_throwing_comparator() {
+
+        List<Integer> values = new ArrayList<>();
+
+        Random random = new Random(311);
+
+        for (int i = 0; i < 2_000; i++) {
+            values.add(random.nextInt(1_000));
+        }
+
+        GlueList<Integer> counted = new GlueList<>(10, 16);
+        counted.addAll(values);
+
+        int[] comparisons = new int[1];
+
+        counted.sort((a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        });
+
+        //the last thresholds are reached while the sorted nodes are being merged.
+        for (int throwAfter : new int[]{200, 300, comparisons[0] / 2, comparisons[0] - 10}) {
+
+            GlueList<Integer> glueList = new GlueList<>(10, 16);
+            glueList.addAll(values);
+
+            int[] calls = new int[1];
+
+            try {
+                glueList.sort((a, b) -> {
+                    if (++calls[0] > throwAfter) {
+                        throw new IllegalStateException();
+                    }
+                    return a.compareTo(b);
+                });
+
+                fail();
+            } catch (IllegalStateException expected) {
+            }
+
+            assertEquals(values.size(), glueList.size());
+            assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+            assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+
+            List<Integer> arrayList = new ArrayList<>(glueList);
+
+            for (int i = 0; i < arrayList.size(); i++) {
+                assertEquals(arrayList.get(i), glueList.get(i));
+            }
+
+            List<Integer> expected = new ArrayList<>(values);
+
+            Collections.sort(expected);
+            Collections.sort(arrayList);
+
+            assertEquals(expected, arrayList);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_32_ParallelSortTest {
+
+    @Test
+    public void test_parallel_sort() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 1_024);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(32);
+
+        for (int i = 0; i < 500_000; i++) {
+
+            int value = random.nextInt();
+
+            glueList.add(value);
+            arrayList.add(value);
+        }
+
+        glueList.parallelSort(null);
+        arrayList.sort(null);
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodeDirectoryTrue(glueList));
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+        assertEquals(true, TestUtil.isNodesElementDataPointerWithinNodeArrayLength(glueList));
+    }
+
+    @Test
+    public void test_parallel_sort_is_stable() {
+
+        GlueList<String> glueList = new GlueList<>(10, 256);
+        List<String> arrayList = new ArrayList<>();
+
+        Random random = new Random(320);
+
+        for (int i = 0; i < 100_000; i++) {
+
+            String value = random.nextInt(20) + ":" + i;
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, value);
+            arrayList.add(index, value);
+        }
+
+        Comparator<String> byPrefix = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf(':'))));
+
+        glueList.parallelSort(byPrefix);
+        arrayList.sort(byPrefix);
+
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_parallel_sort_small_list() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        for (int i = 100; i > 0; i--) {
+            glueList.add(i);
+        }
+
+        glueList.parallelSort(null);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, (int) glueList.get(i));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_33_SpliteratorTest {
+
+    private static void collect(Spliterator<Integer> spliterator, List<Integer> result, int depth) {
+
+        Spliterator<Integer> prefix = (depth > 0) ? spliterator.trySplit() : null;
+
+        if (prefix != null) {
+
+            assertEquals(true, prefix.hasCharacteristics(Spliterator.SUBSIZED));
+
+            collect(prefix, result, depth - 1);
+        }
+
+        if (depth % 2 == 0) {
+            spliterator.forEachRemaining(result::add);
+        } else {
+            while (spliterator.tryAdvance(result::add)) {
+            }
+        }
+    }
+
+    @Test
+    public void test_split_and_traverse() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(10_000, 64, 33, arrayList);
+
+        for (int depth = 0; depth < 16; depth++) {
+
+            List<Integer> result = new ArrayList<>();
+
+            Spliterator<Integer> spliterator = glueList.spliterator();
+
+            assertEquals(10_000, spliterator.getExactSizeIfKnown());
+
+            collect(spliterator, result, depth);
+
+            assertEquals(arrayList, result);
+        }
+    }
+
+    @Test
+    public void test_split_sizes_are_exact() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(1_000, 16, 33, arrayList);
+
+        Spliterator<Integer> suffix = glueList.spliterator();
+        Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertEquals(1_000, prefix.estimateSize() + suffix.estimateSize());
+        assertEquals(true, prefix.estimateSize() >= 250);
+        assertEquals(true, suffix.estimateSize() >= 250);
+
+        int[] count = new int[1];
+
+        prefix.forEachRemaining(e -> count[0]++);
+
+        assertEquals(0, prefix.estimateSize());
+        assertEquals(1_000 - suffix.estimateSize(), count[0]);
+    }
+
+    @Test
+    public void test_parallel_stream() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(200_000, 1_024, 33, arrayList);
+
+        assertEquals(arrayList, glueList.parallelStream().collect(Collectors.toList()));
+        assertEquals(arrayList.stream().mapToLong(e -> e).sum(), glueList.parallelStream().mapToLong(e -> e).sum());
+    }
+
+    @Test
+    public void test_repeated_parallel_splits() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(50_000, 64, 33, arrayList);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(arrayList, glueList.parallelStream().collect(Collectors.toList()));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_34_ForEachTest {
+
+    @Test
+    public void test_for_each() {
+
+        GlueList<Integer> glueList = new GlueList<>(10, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(34);
+
+        for (int i = 0; i < 10_000; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, i);
+            arrayList.add(index, i);
+        }
+
+        List<Integer> result = new ArrayList<>();
+
+        glueList.forEach(result::add);
+
+        assertEquals(arrayList, result);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void test_for_each_concurrent_modification() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        for (int i = 0; i < 10; i++) {
+            glueList.add(i);
+        }
+
+        glueList.forEach(e -> {
+            if (e == 5) {
+                glueList.add(-1);
+            }
+        });
+    }
+
+    @Test
+    public void test_replace_all() {
+
+        GlueList<String> glueList = new GlueList<>(2);
+        List<String> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueList.add("" + i);
+            arrayList.add("" + i);
+        }
+
+        glueList.replaceAll(e -> e + "x");
+        arrayList.replaceAll(e -> e + "x");
+
+        assertEquals(arrayList, glueList);
+        assertEquals(true, TestUtil.isNodesStartingAndEndingIndexesAreTrue(glueList));
+    }
+}
@@ -0,0 +1,95 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_35_ChunkTest {
+
+    @Test
+    public void test_for_each_chunk() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 35, arrayList);
+
+        Object[] copy = new Object[glueList.size()];
+        int[] copied = new int[1];
+
+        glueList.forEachChunk((array, offset, length) -> {
+
+            System.arraycopy(array, offset, copy, copied[0], length);
+
+            copied[0] += length;
+        });
+
+        assertEquals(glueList.size(), copied[0]);
+        assertEquals(arrayList, Arrays.asList(copy));
+    }
+
+    @Test
+    public void test_chunk_iterator() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 35, arrayList);
+
+        Integer[] copy = new Integer[glueList.size()];
+        List<Integer> elements = new ArrayList<>();
+
+        int copied = 0;
+
+        for (Iterator<GlueList.Chunk<Integer>> it = glueList.chunkIterator(); it.hasNext(); ) {
+
+            GlueList.Chunk<Integer> chunk = it.next();
+
+            assertEquals(true, chunk.length() > 0);
+
+            chunk.copyTo(copy, copied);
+
+            for (int i = 0; i < chunk.length(); i++) {
+                elements.add(chunk.get(i));
+            }
+
+            copied += chunk.length();
+        }
+
+        assertEquals(arrayList, Arrays.asList(copy));
+        assertEquals(arrayList, elements);
+    }
+
+    @Test
+    public void test_chunk_iterator_of_empty_list() {
+        assertEquals(false, new GlueList<String>().chunkIterator().hasNext());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_chunk_get_out_of_range() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        glueList.add(1);
+
+        glueList.chunkIterator().next().get(1);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void test_chunk_iterator_concurrent_modification() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 35, arrayList);
+
+        Iterator<GlueList.Chunk<Integer>> it = glueList.chunkIterator();
+
+        it.next();
+
+        glueList.add(1);
+
+        it.next();
+    }
+}
@@ -0,0 +1,117 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueList_36_BatchCopyTest {
+
+    @Test
+    public void test_next_batch() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 36, arrayList);
+
+        GlueList.BatchIterator<Integer> it = glueList.iterator();
+
+        Integer[] buffer = new Integer[100];
+        List<Integer> result = new ArrayList<>();
+
+        assertEquals(arrayList.get(0), it.next());
+        result.add(arrayList.get(0));
+
+        for (int n; (n = it.nextBatch(buffer, 3, 37)) > 0; ) {
+
+            result.addAll(Arrays.asList(buffer).subList(3, 3 + n));
+
+            if (it.hasNext()) {
+                result.add(it.next());
+            }
+        }
+
+        assertEquals(false, it.hasNext());
+        assertEquals(arrayList, result);
+    }
+
+    @Test
+    public void test_next_batch_then_remove() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 36, arrayList);
+
+        GlueList.BatchIterator<Integer> it = glueList.iterator();
+
+        Integer[] buffer = new Integer[10];
+
+        assertEquals(10, it.nextBatch(buffer, 0, 10));
+
+        it.remove();
+        arrayList.remove(9);
+
+        assertEquals(arrayList.get(9), it.next());
+        assertEquals(arrayList, glueList);
+    }
+
+    @Test
+    public void test_list_iterator_next_batch_after_previous() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 36, arrayList);
+
+        ListIterator<Integer> it = glueList.listIterator(2_500);
+
+        for (int i = 0; i < 20; i++) {
+            it.previous();
+        }
+
+        Integer[] buffer = new Integer[50];
+
+        assertEquals(50, ((GlueList.BatchIterator<Integer>) it).nextBatch(buffer, 0, 50));
+        assertEquals(arrayList.subList(2_480, 2_530), Arrays.asList(buffer));
+        assertEquals(2_530, it.nextIndex());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_next_batch_illegal_range() {
+        new GlueList<Integer>().iterator().nextBatch(new Integer[10], 5, 6);
+    }
+
+    @Test
+    public void test_copy_to() {
+
+        List<Integer> arrayList = new ArrayList<>();
+
+        GlueList<Integer> glueList = TestUtil.randomlyInsertedGlueList(5_000, 16, 36, arrayList);
+
+        Random random = new Random(360);
+
+        for (int k = 0; k < 200; k++) {
+
+            int srcIndex = random.nextInt(arrayList.size());
+            int len = random.nextInt(arrayList.size() - srcIndex + 1);
+
+            Integer[] dst = new Integer[len + 2];
+
+            glueList.copyTo(srcIndex, dst, 2, len);
+
+            assertEquals(arrayList.subList(srcIndex, srcIndex + len), Arrays.asList(dst).subList(2, len + 2));
+        }
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_copy_to_illegal_range() {
+
+        GlueList<Integer> glueList = new GlueList<>();
+
+        glueList.add(1);
+
+        glueList.copyTo(0, new Integer[10], 0, 2);
+    }
+}
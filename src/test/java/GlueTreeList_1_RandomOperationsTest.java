@@ -0,0 +1,126 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class GlueTreeList_1_RandomOperationsTest {
+
+    @Test
+    public void test_add_and_get() {
+
+        GlueTreeList<Integer> glueTreeList = new GlueTreeList<>(4);
+
+        for (int i = 0; i < 100_000; i++) {
+            glueTreeList.add(i);
+        }
+
+        assertEquals(100_000, glueTreeList.size());
+
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, (int) glueTreeList.get(i));
+        }
+    }
+
+    @Test
+    public void test_appending_keeps_leaves_full() {
+
+        GlueTreeList<Integer> glueTreeList = new GlueTreeList<>(16);
+
+        for (int i = 0; i < 10_000; i++) {
+            glueTreeList.add(i);
+        }
+
+        for (int i = 10_000; i < 20_000; i++) {
+            glueTreeList.add(glueTreeList.size(), i);
+        }
+
+        for (GlueList.Node<Integer> node = glueTreeList.first; node != glueTreeList.last; node = node.next) {
+            assertEquals(16, node.elementDataPointer);
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals(i, (int) glueTreeList.get(i));
+        }
+    }
+
+    @Test
+    public void test_random_add_with_index_and_remove() {
+
+        GlueTreeList<Integer> glueTreeList = new GlueTreeList<>(8);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(17);
+
+        for (int i = 0; i < 50_000; i++) {
+
+            if (random.nextInt(3) == 0 && !arrayList.isEmpty()) {
+
+                int index = random.nextInt(arrayList.size());
+
+                assertEquals(arrayList.remove(index), glueTreeList.remove(index));
+            } else {
+
+                int index = random.nextInt(arrayList.size() + 1);
+
+                arrayList.add(index, i);
+                glueTreeList.add(index, i);
+            }
+        }
+
+        assertEquals(arrayList, glueTreeList);
+
+        while (!arrayList.isEmpty()) {
+
+            int index = random.nextInt(arrayList.size());
+
+            assertEquals(arrayList.remove(index), glueTreeList.remove(index));
+        }
+
+        assertEquals(0, glueTreeList.size());
+
+        glueTreeList.add(1);
+
+        assertEquals(1, (int) glueTreeList.get(0));
+    }
+
+    @Test
+    public void test_set_index_of_and_iterator_remove() {
+
+        GlueTreeList<Integer> glueTreeList = new GlueTreeList<>(4);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            glueTreeList.add(0, i);
+            arrayList.add(0, i);
+        }
+
+        for (int i = 0; i < 1_000; i += 3) {
+            assertEquals(arrayList.set(i, -i), glueTreeList.set(i, -i));
+        }
+
+        assertEquals(arrayList.indexOf(-300), glueTreeList.indexOf(-300));
+        assertEquals(arrayList.lastIndexOf(500), glueTreeList.lastIndexOf(500));
+
+        Iterator<Integer> iterator = glueTreeList.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        Iterator<Integer> arrayIterator = arrayList.iterator();
+        while (arrayIterator.hasNext()) {
+            if (arrayIterator.next() % 2 == 0) {
+                arrayIterator.remove();
+            }
+        }
+
+        assertEquals(arrayList, glueTreeList);
+        assertEquals(arrayList, new ArrayList<>(glueTreeList));
+        assertEquals(glueTreeList, glueTreeList.clone());
+    }
+}
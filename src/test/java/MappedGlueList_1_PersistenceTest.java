@@ -0,0 +1,149 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+public class MappedGlueList_1_PersistenceTest {
+
+    private static final OffHeapGlueList.FixedWidthCodec<Long> LONG = new OffHeapGlueList.FixedWidthCodec<Long>() {
+
+        @Override
+        public int width() {
+            return 8;
+        }
+
+        @Override
+        public void encode(Long element, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void test_append_reopen_and_append() throws IOException {
+
+        Path file = folder.newFile().toPath();
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG, 10, 1_024)) {
+
+            for (long i = 0; i < 100_000; i++) {
+                list.add(i * 3);
+            }
+
+            assertEquals(100_000, list.size());
+            assertEquals(true, list.nodeCount > 1);
+        }
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG)) {
+
+            assertEquals(100_000, list.size());
+            assertEquals(1_024, list.maxNodeCapacity);
+
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(i * 3L, (long) list.get(i));
+            }
+
+            for (long i = 100_000; i < 150_000; i++) {
+                list.add(i * 3);
+            }
+
+            assertEquals(0L, (long) list.set(0, -1L));
+        }
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG)) {
+
+            assertEquals(150_000, list.size());
+            assertEquals(-1L, (long) list.get(0));
+
+            for (int i = 1; i < 150_000; i++) {
+                assertEquals(i * 3L, (long) list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void test_reopen_at_node_boundary() throws IOException {
+
+        Path file = folder.newFile().toPath();
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG)) {
+            for (long i = 0; i < 10; i++) {
+                list.add(i);
+            }
+        }
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG)) {
+
+            assertEquals(1, list.nodeCount);
+
+            list.add(10L);
+
+            assertEquals(2, list.nodeCount);
+            assertEquals(10L, (long) list.get(10));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_reopen_with_other_width() throws IOException {
+
+        Path file = folder.newFile().toPath();
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(file, LONG)) {
+            list.add(1L);
+        }
+
+        OffHeapGlueList.FixedWidthCodec<Integer> intCodec = new OffHeapGlueList.FixedWidthCodec<Integer>() {
+
+            @Override
+            public int width() {
+                return 4;
+            }
+
+            @Override
+            public void encode(Integer element, ByteBuffer buffer, int offset) {
+                buffer.putInt(offset, element);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+
+        new MappedGlueList<>(file, intCodec);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_open_foreign_file() throws IOException {
+
+        Path file = folder.newFile().toPath();
+
+        Files.write(file, new byte[64]);
+
+        new MappedGlueList<>(file, LONG);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_remove_is_not_supported() throws IOException {
+
+        try (MappedGlueList<Long> list = new MappedGlueList<>(folder.newFile().toPath(), LONG)) {
+
+            list.add(1L);
+
+            list.remove(0);
+        }
+    }
+}
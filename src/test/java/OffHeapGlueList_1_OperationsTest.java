@@ -0,0 +1,211 @@
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class OffHeapGlueList_1_OperationsTest {
+
+    /**
+     * 16 bytes record, two ints and a long.
+     */
+    private static final OffHeapGlueList.FixedWidthCodec<long[]> POINT = new OffHeapGlueList.FixedWidthCodec<long[]>() {
+
+        @Override
+        public int width() {
+            return 16;
+        }
+
+        @Override
+        public void encode(long[] element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, (int) element[0]);
+            buffer.putInt(offset + 4, (int) element[1]);
+            buffer.putLong(offset + 8, element[2]);
+        }
+
+        @Override
+        public long[] decode(ByteBuffer buffer, int offset) {
+            return new long[]{buffer.getInt(offset), buffer.getInt(offset + 4), buffer.getLong(offset + 8)};
+        }
+    };
+
+    private static final OffHeapGlueList.FixedWidthCodec<Integer> INT = new OffHeapGlueList.FixedWidthCodec<Integer>() {
+
+        @Override
+        public int width() {
+            return 4;
+        }
+
+        @Override
+        public void encode(Integer element, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    private static boolean isNodesTrue(OffHeapGlueList<?> list, int maxNodeCapacity) {
+
+        int startingIndex = 0;
+
+        for (int slot = 0; slot < list.nodeCount; slot++) {
+
+            OffHeapGlueList.Node node = list.nodes[slot];
+
+            if (list.nodeStartingIndex(slot) != startingIndex || node.capacity > maxNodeCapacity) {
+                return false;
+            }
+
+            if (node.elementDataPointer > node.capacity || (slot < list.nodeCount - 1 && node.elementDataPointer == 0)) {
+                return false;
+            }
+
+            startingIndex += node.elementDataPointer;
+        }
+
+        return startingIndex == list.size();
+    }
+
+    private static long[] point(int i) {
+        return new long[]{i, -i, i * 1_000_000_007L};
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_illegal_max_node_capacity() {
+        new OffHeapGlueList<>(POINT, Integer.MAX_VALUE / 8);
+    }
+
+    @Test
+    public void test_add_and_get() {
+
+        try (OffHeapGlueList<long[]> list = new OffHeapGlueList<>(POINT)) {
+
+            for (int i = 0; i < 100_000; i++) {
+                list.add(point(i));
+            }
+
+            assertEquals(100_000, list.size());
+
+            for (int i = 0; i < 100_000; i++) {
+                assertEquals(i * 1_000_000_007L, list.get(i)[2]);
+                assertEquals(-i, list.get(i)[1]);
+            }
+        }
+    }
+
+    @Test
+    public void test_random_operations() {
+
+        OffHeapGlueList<Integer> list = new OffHeapGlueList<>(INT, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        Random random = new Random(21);
+
+        for (int i = 0; i < 20_000; i++) {
+
+            int op = random.nextInt(5);
+
+            if (op < 2 || arrayList.isEmpty()) {
+
+                int index = random.nextInt(arrayList.size() + 1);
+
+                list.add(index, i);
+                arrayList.add(index, i);
+            } else if (op == 2) {
+
+                int index = random.nextInt(arrayList.size());
+
+                assertEquals(arrayList.set(index, -i), list.set(index, -i));
+            } else {
+
+                int index = random.nextInt(arrayList.size());
+
+                assertEquals(arrayList.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(arrayList, list);
+        assertEquals(true, isNodesTrue(list, 16));
+
+        list.clear();
+
+        assertEquals(0, list.size());
+
+        list.add(1);
+
+        assertEquals(1, (int) list.get(0));
+    }
+
+    @Test
+    public void test_moves_across_chunks_in_large_nodes() {
+
+        OffHeapGlueList<Integer> list = new OffHeapGlueList<>(INT, 1 << 13);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 30_000; i++) {
+            list.add(i);
+            arrayList.add(i);
+        }
+
+        Random random = new Random(210);
+
+        for (int i = 0; i < 2_000; i++) {
+
+            int index = random.nextInt(arrayList.size());
+
+            if (random.nextBoolean()) {
+                list.add(index, -i);
+                arrayList.add(index, -i);
+            } else {
+                assertEquals(arrayList.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(arrayList, list);
+        assertEquals(true, isNodesTrue(list, 1 << 13));
+    }
+
+    @Test
+    public void test_underfilled_nodes_are_merged() {
+
+        OffHeapGlueList<Integer> list = new OffHeapGlueList<>(INT, 16);
+        List<Integer> arrayList = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            arrayList.add(i);
+        }
+
+        for (int i = arrayList.size() - 1; i >= 0; i--) {
+            if (i % 8 != 0) {
+                list.remove(i);
+                arrayList.remove(i);
+            }
+        }
+
+        assertEquals(arrayList, list);
+        assertEquals(true, isNodesTrue(list, 16));
+        assertEquals(true, list.nodeCount <= list.size() / 4 + 2);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_closed_list() {
+
+        OffHeapGlueList<Integer> list = new OffHeapGlueList<>(INT);
+
+        list.add(1);
+
+        list.close();
+
+        assertEquals(true, list.isClosed());
+        assertEquals(0, list.size());
+
+        list.get(0);
+    }
+}
@@ -0,0 +1,150 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RecordGlueList_1_ColumnTest {
+
+    static final class Trade {
+
+        final long time;
+        final int quantity;
+        final double price;
+
+        Trade(long time, int quantity, double price) {
+            this.time = time;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Trade)) {
+                return false;
+            }
+
+            Trade t = (Trade) o;
+
+            return time == t.time && quantity == t.quantity && price == t.price;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(time) * 31 + quantity;
+        }
+    }
+
+    private static final RecordGlueList.Schema<Trade> SCHEMA = RecordGlueList.<Trade>schema()
+            .longColumn("time", t -> t.time)
+            .intColumn("quantity", t -> t.quantity)
+            .doubleColumn("price", t -> t.price)
+            .build(row -> new Trade(row.getLong(0), row.getInt(1), row.getDouble(2)));
+
+    private static RecordGlueList<Trade> createList(int count) {
+
+        RecordGlueList<Trade> recordGlueList = new RecordGlueList<>(SCHEMA, 16);
+        for (int i = 0; i < count; i++) {
+            recordGlueList.add(new Trade(i, i % 7, i * 0.5));
+        }
+
+        return recordGlueList;
+    }
+
+    @Test
+    public void test_add_get() {
+
+        RecordGlueList<Trade> recordGlueList = createList(1000);
+
+        List<Trade> arrayList = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            arrayList.add(new Trade(i, i % 7, i * 0.5));
+        }
+
+        assertEquals(1000, recordGlueList.size());
+        assertEquals(true, arrayList.equals(recordGlueList));
+        assertEquals(true, recordGlueList.nodeCount > 1);
+    }
+
+    @Test
+    public void test_row() {
+
+        RecordGlueList<Trade> recordGlueList = createList(500);
+
+        RecordGlueList.Row row = recordGlueList.row(321);
+
+        assertEquals(321L, row.getLong(recordGlueList.columnIndex("time")));
+        assertEquals(321 % 7, row.getInt(recordGlueList.columnIndex("quantity")));
+        assertEquals(160.5, row.getDouble(recordGlueList.columnIndex("price")), 0);
+    }
+
+    @Test
+    public void test_set() {
+
+        RecordGlueList<Trade> recordGlueList = createList(100);
+
+        Trade old = recordGlueList.set(42, new Trade(-1, -2, -3));
+
+        assertEquals(new Trade(42, 0, 21), old);
+        assertEquals(new Trade(-1, -2, -3), recordGlueList.get(42));
+        assertEquals(new Trade(43, 1, 21.5), recordGlueList.get(43));
+    }
+
+    @Test
+    public void test_column_scans() {
+
+        RecordGlueList<Trade> recordGlueList = createList(1000);
+
+        long timeSum = 0;
+        int quantitySum = 0;
+        double priceSum = 0;
+        for (int i = 0; i < 1000; i++) {
+            timeSum += i;
+            quantitySum += i % 7;
+            priceSum += i * 0.5;
+        }
+
+        assertEquals(timeSum, recordGlueList.longColumn(0).sum());
+        assertEquals(quantitySum, recordGlueList.intColumn(1).sum());
+        assertEquals(priceSum, recordGlueList.doubleColumn(2).sum(), 0);
+
+        long[] sum = new long[1];
+        recordGlueList.forEachLong(0, v -> sum[0] += v);
+        assertEquals(timeSum, sum[0]);
+
+        int[] count = new int[1];
+        recordGlueList.forEachInt(1, v -> count[0]++);
+        assertEquals(1000, count[0]);
+
+        double[] max = {Double.NEGATIVE_INFINITY};
+        recordGlueList.forEachDouble(2, v -> max[0] = Math.max(max[0], v));
+        assertEquals(499.5, max[0], 0);
+    }
+
+    @Test
+    public void test_clear() {
+
+        RecordGlueList<Trade> recordGlueList = createList(100);
+
+        recordGlueList.clear();
+
+        assertEquals(0, recordGlueList.size());
+        assertEquals(0L, recordGlueList.longColumn(0).count());
+
+        recordGlueList.add(new Trade(1, 2, 3));
+
+        assertEquals(new Trade(1, 2, 3), recordGlueList.get(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_wrong_column_type() {
+        createList(10).longColumn(1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void test_get_out_of_bounds() {
+        createList(10).get(10);
+    }
+}
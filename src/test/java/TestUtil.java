@@ -1,3 +1,6 @@
+import java.util.List;
+import java.util.Random;
+
 public class TestUtil {
 
     private TestUtil() {
@@ -7,9 +10,12 @@ public class TestUtil {
 
         int totalNodesCreated = 0;
 
+        int startingIndex = 0;
+
         StringBuilder stringBuilder = new StringBuilder();
         for (GlueList.Node<T> node = glueList.first; node != null; node = node.next) {
-            stringBuilder.append("[").append(node.startingIndex).append(",").append(node.endingIndex).append("] ");
+            stringBuilder.append("[").append(startingIndex).append(",").append(startingIndex + node.elementDataPointer - 1).append("] ");
+            startingIndex += node.elementDataPointer;
             totalNodesCreated++;
         }
         String result = stringBuilder.toString();
@@ -39,29 +45,41 @@ public class TestUtil {
 
     public static <T> boolean isNodesStartingAndEndingIndexesAreTrue(GlueList<T> glueList) {
 
-        for (GlueList.Node<T> node = glueList.first; node != null; node = node.next) {
+        int slot = 0;
+        int startingIndex = 0;
 
-            GlueList.Node<T> nodeNext = node.next;
-            if (nodeNext == null) {
-                continue;
-            }
+        for (GlueList.Node<T> node = glueList.first; node != null; node = node.next) {
 
-            if (node.endingIndex + 1 != nodeNext.startingIndex) {
+            if (glueList.nodeStartingIndex(slot) != startingIndex) {
                 return false;
             }
+
+            startingIndex += node.elementDataPointer;
+            slot++;
         }
 
-        return true;
+        return startingIndex == glueList.size();
     }
 
-    public static <T> boolean isNodesElementDataPointerSameWithNodeArrayLength(GlueList<T> glueList) {
+    public static <T> boolean isNodesElementDataPointerWithinNodeArrayLength(GlueList<T> glueList) {
+
+        if (glueList.last.elementDataPointer > glueList.last.elementData.length) {
+            return false;
+        }
 
         //goes until last.Because last may not been loaded
         for (GlueList.Node<T> node = glueList.first; node != glueList.last; node = node.next) {
 
-            if (node.elementDataPointer != node.elementData.length) {
+            if (node.elementDataPointer == 0 || node.elementDataPointer > node.elementData.length) {
                 return false;
             }
+
+            //slack must not keep references
+            for (int i = node.elementDataPointer; i < node.elementData.length; i++) {
+                if (node.elementData[i] != null) {
+                    return false;
+                }
+            }
         }
 
         return true;
@@ -85,14 +103,55 @@ public class TestUtil {
             return false;
         }
 
-        if (glueList.last.startingIndex > glueList.last.endingIndex) {
+        if (glueList.nodeCount != 1) {
             return false;
         }
 
         return true;
     }
 
+    public static <T> boolean isNodeDirectoryTrue(GlueList<T> glueList) {
+
+        int slot = 0;
+
+        for (GlueList.Node<T> node = glueList.first; node != null; node = node.next) {
+
+            if (slot >= glueList.nodeCount) {
+                return false;
+            }
+
+            if (glueList.nodes[slot] != node) {
+                return false;
+            }
+
+            slot++;
+        }
+
+        return slot == glueList.nodeCount;
+    }
+
     public static <T> boolean isFirstAndLastNodesAreEqual(GlueList<T> glueList) {
         return glueList.first == glueList.last;
     }
+
+    /**
+     * Builds a list of the given size by adding 0..size - 1 at random indexes, so its nodes are split and unevenly filled.
+     * The same operations are applied to arrayList, which serves as the expected content.
+     */
+    public static GlueList<Integer> randomlyInsertedGlueList(int size, int maxNodeCapacity, long seed, List<Integer> arrayList) {
+
+        GlueList<Integer> glueList = new GlueList<>(10, maxNodeCapacity);
+
+        Random random = new Random(seed);
+
+        for (int i = 0; i < size; i++) {
+
+            int index = random.nextInt(arrayList.size() + 1);
+
+            glueList.add(index, i);
+            arrayList.add(index, i);
+        }
+
+        return glueList;
+    }
 }
\ No newline at end of file